@@ -0,0 +1,61 @@
+package com.fgdev.game.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.fgdev.game.headless.HeadlessBootstrap;
+import com.fgdev.game.headless.ScriptedInput;
+import com.fgdev.game.headless.SimulationRunner;
+import com.fgdev.game.logics.GameScreenLogic;
+
+import static com.fgdev.game.Constants.POSITION_ITERATIONS;
+import static com.fgdev.game.Constants.STEP_TIME;
+import static com.fgdev.game.Constants.VELOCITY_ITERATIONS;
+
+/**
+ * Shared setup for the benchmarks: a headless backend with the game assets
+ * loaded, and levels that have been simulated for a while so bodies near the
+ * player are awake and contacts exist.
+ */
+public class BenchmarkSupport {
+
+    /** Steps simulated before measuring, two seconds of game time. */
+    public static final int WARMUP_STEPS = 120;
+
+    private static boolean initialized;
+
+    private BenchmarkSupport() { }
+
+    public static synchronized void init() {
+        if (initialized) return;
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // nothing runs on the backend thread, keep it idle
+        config.renderInterval = 1f;
+        new HeadlessApplication(new ApplicationAdapter() { }, config);
+        HeadlessBootstrap.init();
+        initialized = true;
+    }
+
+    public static GameScreenLogic loadLevel(int level) {
+        init();
+        SimulationRunner.prepareLevel(level);
+        GameScreenLogic logic = new GameScreenLogic(null, new ScriptedInput(), true);
+        for (int i = 0; i < WARMUP_STEPS; i++) {
+            logic.update(STEP_TIME);
+        }
+        Gdx.app.debug(BenchmarkSupport.class.getName(), "level " + level
+                + " ready, bodies " + logic.getWorld().getBodyCount());
+        return logic;
+    }
+
+    /**
+     * Steps the world the way GameScreenLogic does, with the contacts of the
+     * step recorded and applied once it is over.
+     */
+    public static void stepWorld(GameScreenLogic logic) {
+        logic.getContactListener().beginStep();
+        logic.getWorld().step(STEP_TIME, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+        logic.getContactListener().endStep();
+    }
+}
@@ -0,0 +1,90 @@
+package com.fgdev.game.benchmarks;
+
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.utils.Array;
+import com.fgdev.game.helpers.WorldContactListener;
+import com.fgdev.game.logics.GameScreenLogic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static com.fgdev.game.Constants.*;
+
+/**
+ * Replays begin/end for the contacts that exist in a warmed up level, handled
+ * straight away and recorded then flushed as during a step. Pairs whose
+ * handlers change game state for good (collecting, killing, checkpoints) are left
+ * out so every invocation sees the same world.
+ */
+@State(Scope.Thread)
+public class ContactDispatchBenchmark {
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int level;
+
+    private GameScreenLogic logic;
+    private WorldContactListener listener;
+    private Array<Contact> contacts;
+
+    @Setup
+    public void setup() {
+        logic = BenchmarkSupport.loadLevel(level);
+        listener = logic.getContactListener();
+        contacts = new Array<Contact>();
+        for (Contact contact : logic.getWorld().getContactList()) {
+            if (isReplayable(contact)) contacts.add(contact);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        logic.dispose();
+    }
+
+    private boolean isReplayable(Contact contact) {
+        int cDef = contact.getFixtureA().getFilterData().categoryBits
+                | contact.getFixtureB().getFilterData().categoryBits;
+        switch (cDef) {
+            case PLAYER_BIT | ITEM_BIT:
+            case ATTACK_BIT | CRATE_BIT:
+            case KUNAI_BIT | CRATE_BIT:
+            case BULLET_BIT | CRATE_BIT:
+            case ATTACK_BIT | ENEMY_BIT:
+            case KUNAI_BIT | ENEMY_BIT:
+            case PLAYER_BIT | ENEMY_BIT:
+            case PLAYER_BIT | SPIKE_BIT:
+            case PLAYER_BIT | BULLET_BIT:
+            case PLAYER_BIT | SIGN_BIT:
+            case BULLET_BIT | KUNAI_BIT:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    @Benchmark
+    public int beginAndEnd() {
+        for (int i = 0; i < contacts.size; i++) {
+            Contact contact = contacts.get(i);
+            listener.beginContact(contact);
+            listener.endContact(contact);
+        }
+        return contacts.size;
+    }
+
+    @Benchmark
+    public int recordAndFlush() {
+        listener.beginStep();
+        for (int i = 0; i < contacts.size; i++) {
+            Contact contact = contacts.get(i);
+            listener.beginContact(contact);
+            listener.endContact(contact);
+        }
+        listener.endStep();
+        return contacts.size;
+    }
+}
@@ -0,0 +1,71 @@
+package com.fgdev.game.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+import com.fgdev.game.entitiles.enemies.Enemy;
+import com.fgdev.game.entitiles.enemies.EnemyProbeService;
+import com.fgdev.game.helpers.EntityRegistry;
+import com.fgdev.game.logics.GameScreenLogic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * One invocation probes every enemy of the level once, directly as
+ * checkMovingDirection does or queued and flushed through EnemyProbeService
+ * as after a step.
+ */
+@State(Scope.Thread)
+public class EnemyRaycastBenchmark {
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int level;
+
+    private GameScreenLogic logic;
+    private Array<Enemy> enemies;
+
+    @Setup
+    public void setup() {
+        logic = BenchmarkSupport.loadLevel(level);
+        EntityRegistry<Enemy> registry = logic.getCreator().getEnemies();
+        enemies = new Array<Enemy>();
+        for (int i = 0; i < registry.size(); i++) {
+            enemies.add(registry.get(i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        logic.dispose();
+    }
+
+    @Benchmark
+    public int checkMovingDirection() {
+        EnemyProbeService probes = EnemyProbeService.getInstance(logic.getWorld());
+        int right = 0;
+        for (int i = 0; i < enemies.size; i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.getBody() == null) continue;
+            probes.probe(enemy);
+            if (enemy.isRunningRight()) right++;
+        }
+        return right;
+    }
+
+    @Benchmark
+    public int requestAndFlush() {
+        EnemyProbeService probes = EnemyProbeService.getInstance(logic.getWorld());
+        int right = 0;
+        for (int i = 0; i < enemies.size; i++) {
+            probes.request(enemies.get(i));
+        }
+        probes.flush();
+        for (int i = 0; i < enemies.size; i++) {
+            if (enemies.get(i).isRunningRight()) right++;
+        }
+        return right;
+    }
+}
@@ -0,0 +1,84 @@
+package com.fgdev.game.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.World;
+import com.fgdev.game.entitiles.Player;
+import com.fgdev.game.logics.GameScreenLogic;
+import com.fgdev.game.utils.BodyFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static com.fgdev.game.Constants.PPM;
+
+/**
+ * Cost of one melee swing: the hitbox goes on, the world steps, the hitbox
+ * goes off and the world steps again. toggle is what Player does now,
+ * rebuild replays the old destroy and recreate of the whole body on a copy
+ * of the player body.
+ */
+@State(Scope.Thread)
+public class PlayerAttackBenchmark {
+
+    private GameScreenLogic logic;
+    private World world;
+    private Player player;
+    private BodyFactory bodyFactory;
+    private Body rebuilt;
+
+    @Setup
+    public void setup() {
+        logic = BenchmarkSupport.loadLevel(1);
+        world = logic.getWorld();
+        player = logic.getPlayer();
+        bodyFactory = BodyFactory.getInstance(world);
+    }
+
+    @TearDown
+    public void tearDown() {
+        logic.dispose();
+    }
+
+    @Benchmark
+    public void toggle() {
+        player.setAttackActive(true);
+        BenchmarkSupport.stepWorld(logic);
+        player.clearAttack();
+        BenchmarkSupport.stepWorld(logic);
+    }
+
+    @Benchmark
+    public void rebuild() {
+        if (rebuilt == null) {
+            // the copy stands in for the player
+            player.getBody().setActive(false);
+            rebuilt = makeBody(player.getBody().getPosition().x, player.getBody().getPosition().y);
+        }
+        Vector2 position = rebuilt.getPosition();
+        float x = position.x;
+        float y = position.y;
+        world.destroyBody(rebuilt);
+        rebuilt = makeBody(x, y);
+        bodyFactory.makeShapeSensor(rebuilt, 20 / PPM, 60 / PPM, new Vector2(61 / PPM, 0), 0,
+                BodyFactory.PLAYER_ATTACK, player);
+        BenchmarkSupport.stepWorld(logic);
+        world.destroyBody(rebuilt);
+        rebuilt = makeBody(x, y);
+        BenchmarkSupport.stepWorld(logic);
+    }
+
+    private Body makeBody(float x, float y) {
+        float width = (54 - 10) / PPM;
+        float height = (69 - 10) / PPM;
+        Body body = bodyFactory.makeBoxPolyBody(x, y, width, height, BodyFactory.PLAYER,
+                BodyDef.BodyType.DynamicBody, player);
+        bodyFactory.makeShapeSensor(body, width, 10 / PPM, new Vector2(0, -height - (7 / PPM)), 0,
+                BodyFactory.PLAYER_SENSOR, player);
+        return body;
+    }
+}
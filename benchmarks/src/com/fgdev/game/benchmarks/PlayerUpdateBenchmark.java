@@ -0,0 +1,36 @@
+package com.fgdev.game.benchmarks;
+
+import com.fgdev.game.entitiles.Player;
+import com.fgdev.game.logics.GameScreenLogic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static com.fgdev.game.Constants.STEP_TIME;
+
+@State(Scope.Thread)
+public class PlayerUpdateBenchmark {
+
+    private GameScreenLogic logic;
+    private Player player;
+
+    @Setup
+    public void setup() {
+        logic = BenchmarkSupport.loadLevel(1);
+        player = logic.getPlayer();
+    }
+
+    @TearDown
+    public void tearDown() {
+        logic.dispose();
+    }
+
+    @Benchmark
+    public Player update() {
+        player.update(STEP_TIME);
+        return player;
+    }
+}
@@ -0,0 +1,42 @@
+package com.fgdev.game.benchmarks;
+
+import com.fgdev.game.helpers.ScoreIndicator;
+import com.fgdev.game.logics.GameScreenLogic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static com.fgdev.game.Constants.STEP_TIME;
+
+/**
+ * One popup per step with a 0.8 s life keeps about 48 items alive,
+ * more than any real frame shows.
+ */
+@State(Scope.Thread)
+public class ScoreIndicatorBenchmark {
+
+    private GameScreenLogic logic;
+    private ScoreIndicator scoreIndicator;
+    private int count;
+
+    @Setup
+    public void setup() {
+        logic = BenchmarkSupport.loadLevel(1);
+        scoreIndicator = logic.getScoreIndicator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        logic.dispose();
+    }
+
+    @Benchmark
+    public void addAndUpdate() {
+        count++;
+        scoreIndicator.addScoreItem(count % 100, 2, count % 2 == 0 ? 80 : 100);
+        scoreIndicator.update(STEP_TIME);
+    }
+}
@@ -0,0 +1,34 @@
+package com.fgdev.game.benchmarks;
+
+import com.fgdev.game.logics.GameScreenLogic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+public class WorldStepBenchmark {
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int level;
+
+    private GameScreenLogic logic;
+
+    @Setup
+    public void setup() {
+        logic = BenchmarkSupport.loadLevel(level);
+    }
+
+    @TearDown
+    public void tearDown() {
+        logic.dispose();
+    }
+
+    @Benchmark
+    public void step() {
+        BenchmarkSupport.stepWorld(logic);
+    }
+}
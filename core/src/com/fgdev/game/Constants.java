@@ -80,8 +80,15 @@ public class Constants {
     public static final float STEP_TIME = 1f/60f;
     public static final int VELOCITY_ITERATIONS = 6;
     public static final int POSITION_ITERATIONS = 2;
+    // Most fixed steps run in one frame, and the longest frame we try to catch up on
+    public static final int MAX_SUB_STEPS = 5;
+    public static final float MAX_FRAME_TIME = 0.25f;
+    // Milliseconds per frame the asset manager may spend loading
+    public static final int ASSET_LOAD_BUDGET = 15;
     // speed
     public static final float SPEED_PLAYER_X = 0.1f;
+    // Steps between wall probes of a walking enemy
+    public static final int ENEMY_PROBE_STEPS = 4;
     // Position player
     public static final float POS_X = 100 / PPM;
     public static final float POS_Y = 450 / PPM;
@@ -5,31 +5,55 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.math.Interpolation;
 import com.fgdev.game.screens.DirectedGame;
+import com.fgdev.game.screens.LoadingScreen;
 import com.fgdev.game.screens.MenuScreen;
 import com.fgdev.game.screens.transitions.ScreenTransition;
 import com.fgdev.game.screens.transitions.ScreenTransitionFade;
 import com.fgdev.game.screens.transitions.ScreenTransitionSlice;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.AudioManager;
+import com.fgdev.game.utils.GameProfiler;
 import com.fgdev.game.utils.GamePreferences;
+import com.fgdev.game.utils.Trace;
 import com.fgdev.game.utils.ValueManager;
 
+import static com.fgdev.game.Constants.ASSET_LOAD_BUDGET;
+
 public class FGDevMain extends DirectedGame {
 
 	private static final String TAG = FGDevMain.class.getName();
 
 	public static final String GAME_TITLE = "FGDev | Ninja Adventure 1.0 [fps: %s]";
 
+	private boolean menuMusicStarted;
+
 	@Override
 	public void create () {
 		// Set Libgdx log level to DEBUG
 		Gdx.app.setLogLevel(Application.LOG_DEBUG);
-		// Load assets
-		Assets.instance.init(new AssetManager());
-		// Load preferences for audio settings and start playing music
+		// Queue assets, the menu only waits for the core group
+		Assets.instance.load(new AssetManager());
+		// Load preferences for audio settings
 		GamePreferences.instance.load();
-		AudioManager.instance.play(Assets.instance.music.menu_music);
-		// Start game at menu screen
-		setScreen(new MenuScreen(this));
+		GameProfiler.instance.setEnabled(GamePreferences.instance.showProfiler);
+		Trace.instance.setEnabled(GamePreferences.instance.trace);
+		// Start game at menu screen once it can be drawn
+		setScreen(new LoadingScreen(this, Assets.CORE, new MenuScreen(this)));
+	}
+
+	@Override
+	public void render () {
+		Trace.instance.begin(Trace.FRAME);
+		// Keep loading whatever is queued, whichever screen is up
+		Trace.instance.begin(Trace.ASSETS);
+		Assets.instance.update(ASSET_LOAD_BUDGET);
+		Trace.instance.end(Trace.ASSETS);
+		if (!menuMusicStarted && Assets.instance.isLoaded(Assets.MUSIC)) {
+			menuMusicStarted = true;
+			AudioManager.instance.play(Assets.instance.music.menu_music);
+		}
+		super.render();
+		GameProfiler.instance.endFrame();
+		Trace.instance.end(Trace.FRAME);
 	}
 }
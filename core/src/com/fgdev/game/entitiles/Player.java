@@ -1,19 +1,13 @@
 package com.fgdev.game.entitiles;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
-import com.badlogic.gdx.utils.Array;
-import com.fgdev.game.entitiles.bullets.Kunai;
-import com.fgdev.game.entitiles.bullets.SpawningBullet;
+import com.fgdev.game.entitiles.bullets.ProjectileManager;
 import com.fgdev.game.utils.*;
 import com.fgdev.game.Constants;
 
-import java.util.LinkedList;
-
 import static com.fgdev.game.Constants.*;
 
 public class Player extends Sprite {
@@ -29,18 +23,18 @@ public class Player extends Sprite {
     private World world;
     private Body body;
     private BodyFactory bodyFactory;
-    private Animation playerIddle;
-    private Animation playerDelay;
-    private Animation playerRun;
-    private Animation playerJump;
-    private Animation playerClimb;
-    private Animation playerDead;
-    private Animation playerGlide;
-    private Animation playerJumpAttack;
-    private Animation playerJumpThrow;
-    private Animation playerAttack;
-    private Animation playerSlide;
-    private Animation playerThrow;
+    private FacingAnimation playerIddle;
+    private FacingAnimation playerDelay;
+    private FacingAnimation playerRun;
+    private FacingAnimation playerJump;
+    private FacingAnimation playerClimb;
+    private FacingAnimation playerDead;
+    private FacingAnimation playerGlide;
+    private FacingAnimation playerJumpAttack;
+    private FacingAnimation playerJumpThrow;
+    private FacingAnimation playerAttack;
+    private FacingAnimation playerSlide;
+    private FacingAnimation playerThrow;
     private boolean runningRight;
     private float stateTimer;
     private boolean isGirl;
@@ -52,9 +46,11 @@ public class Player extends Sprite {
     private boolean isDelay;
     private boolean canThrow;
 
-    private boolean timeToRedefinePlayer;
-    private boolean timeTodefinePlayerAttackRight;
-    private boolean timeTodefinePlayerAttackLeft;
+    // Attack sensors live on the body and only get their mask while hitting
+    private Fixture attackRight;
+    private Fixture attackLeft;
+    private short attackMaskBits;
+    private final Filter attackFilter = new Filter();
 
     private float timeJumping;
     private boolean hasFeatherPowerup;
@@ -62,13 +58,14 @@ public class Player extends Sprite {
 
     private final float JUMP_TIME_MAX = 0.3f;
 
-    private Array<Kunai> kunaies;
-    private LinkedList<SpawningBullet> bulletSpawnQueue;
+    private ProjectileManager projectiles;
 
     private boolean isOnGround;
 
     private boolean isOnLadder;
 
+    private final Vector2 previousPosition = new Vector2();
+
     public Player(World world) {
         this.world = world;
         bodyFactory = BodyFactory.getInstance(world);
@@ -88,8 +85,7 @@ public class Player extends Sprite {
         isOnLadder = false;
         isGirl = GamePreferences.instance.isGirl;
         // for spawning bullets
-        kunaies = new Array<Kunai>();
-        bulletSpawnQueue = new LinkedList<SpawningBullet>();
+        projectiles = ProjectileManager.getInstance(world);
         // Power-ups
         hasFeatherPowerup = false;
         timeLeftFeatherPowerup = 0;
@@ -119,31 +115,11 @@ public class Player extends Sprite {
         // Throw
         playerThrow = player.animThrow;
         definePlayer();
-        setRegion((TextureRegion) playerIddle.getKeyFrame(stateTimer));
+        previousPosition.set(body.getPosition());
+        setRegion(playerIddle.flipped(!runningRight).getKeyFrame(stateTimer));
     }
 
     public void update(float dt) {
-        if (timeTodefinePlayerAttackRight)
-            definePlayerAttackRight();
-        if (timeTodefinePlayerAttackLeft)
-            definePlayerAttackLeft();
-        if (timeToRedefinePlayer)
-            reDefinePlayer();
-
-        // spawn
-        handleSpawningBullet();
-
-        // update bullets
-        for (Kunai kunai : kunaies) {
-            kunai.update(dt);
-        }
-        // clean
-        for (int i = 0; i < kunaies.size; i++) {
-            if (!kunaies.get(i).isAlive()) {
-                kunaies.removeIndex(i);
-            }
-        }
-
         setBoundForRegion();
         setRegion(getFrame(dt));
         setPosition(body.getPosition().x - getWidth() / 2, body.getPosition().y - getHeight() / 2 - 0.1f);
@@ -203,32 +179,35 @@ public class Player extends Sprite {
     private TextureRegion getFrame(float dt) {
         currentState = getState();
         TextureRegion region;
+        // face the way it moves, keep the last facing while standing still
+        if (body.getLinearVelocity().x < 0) runningRight = false;
+        else if (body.getLinearVelocity().x > 0) runningRight = true;
         //depending on the state, get corresponding animation KeyFrame
         switch (currentState) {
             case RUN:
-                region = (TextureRegion) playerRun.getKeyFrame(stateTimer, true);
+                region = playerRun.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case JUMP:
-                region = (TextureRegion) playerJump.getKeyFrame(stateTimer, true);
+                region = playerJump.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case CLIMB:
-                region = (TextureRegion) playerClimb.getKeyFrame(stateTimer, true);
+                region = playerClimb.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 if (playerClimb.isAnimationFinished(stateTimer))
                     isClimb = false;
                 break;
             case DEAD:
-                region = (TextureRegion) playerDead.getKeyFrame(stateTimer);
+                region = playerDead.flipped(!runningRight).getKeyFrame(stateTimer);
                 if (playerDead.isAnimationFinished(stateTimer)) { }
                 break;
             case GLIDE:
-                region = (TextureRegion) playerGlide.getKeyFrame(stateTimer, true);
+                region = playerGlide.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case JUMP_ATTACK:
-                region = (TextureRegion) playerJumpAttack.getKeyFrame(stateTimer);
+                region = playerJumpAttack.flipped(!runningRight).getKeyFrame(stateTimer);
                 if (playerJumpAttack.isAnimationFinished(stateTimer)) {}
                 break;
             case JUMP_THROW:
-                region = (TextureRegion) playerJumpThrow.getKeyFrame(stateTimer);
+                region = playerJumpThrow.flipped(!runningRight).getKeyFrame(stateTimer);
                 if (playerJumpThrow.isAnimationFinished(stateTimer)) {
                     if (!canThrow && !world.isLocked()) {
                         float x = runningRight ? 1f : -1f;
@@ -240,50 +219,37 @@ public class Player extends Sprite {
                 }
                 break;
             case ATTACK:
-                region = (TextureRegion) playerAttack.getKeyFrame(stateTimer);
+                region = playerAttack.flipped(!runningRight).getKeyFrame(stateTimer);
                 if (playerAttack.isAnimationFinished(stateTimer)) {
                     isAttack = false;
                     isDelay = true;
-                    if (runningRight)
-                        timeTodefinePlayerAttackRight = true;
-                    else
-                        timeTodefinePlayerAttackLeft = true;
+                    setAttackActive(runningRight);
                 }
                 break;
             case SLIDE:
-                region = (TextureRegion) playerSlide.getKeyFrame(stateTimer);
+                region = playerSlide.flipped(!runningRight).getKeyFrame(stateTimer);
                 if (playerSlide.isAnimationFinished(stateTimer))
                     isSlide = false;
                 break;
             case THROW:
-                region = (TextureRegion) playerThrow.getKeyFrame(stateTimer);
+                region = playerThrow.flipped(!runningRight).getKeyFrame(stateTimer);
                 if (playerThrow.isAnimationFinished(stateTimer)) {
                     canThrow = true;
                     isThrow = false;
                 }
                 break;
             case DELAY:
-                region = (TextureRegion) playerDelay.getKeyFrame(stateTimer);
+                region = playerDelay.flipped(!runningRight).getKeyFrame(stateTimer);
                 if (playerDelay.isAnimationFinished(stateTimer)) {
                     isDelay = false;
-                    timeToRedefinePlayer = true;
+                    clearAttack();
                 }
                 break;
             case IDDLE:
             default:
-                region = (TextureRegion) playerIddle.getKeyFrame(stateTimer, true);
+                region = playerIddle.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
         }
-        //if player is running left and the texture isnt facing left... flip it.
-        if ((body.getLinearVelocity().x < 0 || !runningRight) && !region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = false;
-        }
-        //if player is running right and the texture isnt facing right... flip it.
-        else if ((body.getLinearVelocity().x > 0 || runningRight) && region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = true;
-        }
 
         //if the current state is the same as the previous state increase the state timer.
         //otherwise the state has changed and we need to reset timer.
@@ -366,7 +332,7 @@ public class Player extends Sprite {
 
     public void down() {
         isSlide = true;
-        setRegion((TextureRegion) playerSlide.getKeyFrame(stateTimer));
+        setRegion(playerSlide.flipped(!runningRight).getKeyFrame(stateTimer));
     }
 
     public void climb() {
@@ -394,7 +360,7 @@ public class Player extends Sprite {
         if (currentState != State.ATTACK && currentState != State.GLIDE && currentState != State.JUMP) {
             AudioManager.instance.play(Assets.instance.sounds.melee);
             isAttack = true;
-            setRegion((TextureRegion) playerAttack.getKeyFrame(stateTimer));
+            setRegion(playerAttack.flipped(!runningRight).getKeyFrame(stateTimer));
         }
     }
 
@@ -456,49 +422,55 @@ public class Player extends Sprite {
                 BodyFactory.PLAYER_SENSOR,
                 this
         );
+        // create attack sensors, switched off
+        attackRight = makeAttackSensor(61 / PPM);
+        attackLeft = makeAttackSensor(-61 / PPM);
     }
 
-    private void definePlayer() {
-        makeBoxPlayerBody(ValueManager.instance.posX, ValueManager.instance.posY);
-    }
-
-    private void reDefinePlayer() {
-        Vector2 currentPosition = body.getPosition();
-        world.destroyBody(body);
-        makeBoxPlayerBody(currentPosition.x, currentPosition.y);
-        timeToRedefinePlayer = false;
-    }
-
-    private void definePlayerAttackRight() {
-        Vector2 currentPosition = body.getPosition();
-        world.destroyBody(body);
-        makeBoxPlayerBody(currentPosition.x, currentPosition.y);
-        // create right attack sensor
-        bodyFactory.makeShapeSensor(body,
+    private Fixture makeAttackSensor(float offsetX) {
+        Fixture fixture = bodyFactory.makeShapeSensor(body,
                 20 / PPM,
                 60 / PPM,
-                new Vector2(61 / PPM, 0),
+                new Vector2(offsetX, 0),
                 0,
                 BodyFactory.PLAYER_ATTACK,
                 this
         );
-        timeTodefinePlayerAttackRight = false;
+        Filter filter = fixture.getFilterData();
+        attackFilter.categoryBits = filter.categoryBits;
+        attackFilter.groupIndex = filter.groupIndex;
+        attackMaskBits = filter.maskBits;
+        attackFilter.maskBits = 0;
+        fixture.setFilterData(attackFilter);
+        return fixture;
     }
 
-    private void definePlayerAttackLeft() {
-        Vector2 currentPosition = body.getPosition();
-        world.destroyBody(body);
-        makeBoxPlayerBody(currentPosition.x, currentPosition.y);
-        // create left attack sensor
-        bodyFactory.makeShapeSensor(body,
-                20 / PPM,
-                60 / PPM,
-                new Vector2(-61 / PPM, 0),
-                0,
-                BodyFactory.PLAYER_ATTACK,
-                this
-        );
-        timeTodefinePlayerAttackLeft = false;
+    private void definePlayer() {
+        makeBoxPlayerBody(ValueManager.instance.posX, ValueManager.instance.posY);
+    }
+
+    // Box2D refilters the sensor, contacts come and go on the next step
+    public void setAttackActive(boolean right) {
+        attackFilter.maskBits = attackMaskBits;
+        (right ? attackRight : attackLeft).setFilterData(attackFilter);
+        attackFilter.maskBits = 0;
+        (right ? attackLeft : attackRight).setFilterData(attackFilter);
+    }
+
+    public void clearAttack() {
+        attackFilter.maskBits = 0;
+        attackRight.setFilterData(attackFilter);
+        attackLeft.setFilterData(attackFilter);
+    }
+
+    public void savePosition() {
+        previousPosition.set(body.getPosition());
+    }
+
+    public void interpolate(float alpha) {
+        Vector2 position = body.getPosition();
+        setPosition(previousPosition.x + (position.x - previousPosition.x) * alpha - getWidth() / 2,
+                previousPosition.y + (position.y - previousPosition.y) * alpha - getHeight() / 2 - 0.1f);
     }
 
     public void playerDie() {
@@ -518,26 +490,8 @@ public class Player extends Sprite {
         return getPosition().y < -5;
     }
 
-    @Override
-    public void draw(Batch batch) {
-        super.draw(batch);
-
-        // draw bullets
-        for (Kunai kunai : kunaies) {
-            kunai.draw(batch);
-        }
-    }
-
-
     public void addSpawnBullet(float x, float y, boolean movingRight) {
-        bulletSpawnQueue.add(new SpawningBullet(x, y, movingRight));
-    }
-
-    public void handleSpawningBullet() {
-        if (bulletSpawnQueue.size() > 0) {
-            SpawningBullet spawningBullet = bulletSpawnQueue.poll();
-            kunaies.add(new Kunai(getWorld(), spawningBullet.x, spawningBullet.y, spawningBullet.movingRight));
-        }
+        projectiles.spawnKunai(x, y, movingRight);
     }
 
     public void setOnGround(boolean onGround) {
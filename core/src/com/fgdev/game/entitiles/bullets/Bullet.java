@@ -1,12 +1,19 @@
 package com.fgdev.game.entitiles.bullets;
 
 import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Pool;
 import com.fgdev.game.entitiles.Player;
 import com.fgdev.game.utils.BodyFactory;
 
-public abstract class Bullet extends Sprite {
+/**
+ * Projectiles keep their body for life. A spent one parks its body inactive
+ * and goes back to the pool, {@link #init(float, float, boolean)} moves it to
+ * the next shot.
+ */
+public abstract class Bullet extends Sprite implements Pool.Poolable {
 
     protected Body body;
     protected BodyFactory bodyFactory;
@@ -16,25 +23,37 @@ public abstract class Bullet extends Sprite {
     protected World world;
     protected boolean alive;
     protected float x, y;
+    protected final Vector2 previousPosition = new Vector2();
 
     public Bullet(World world) {
         this.world = world;
         bodyFactory = BodyFactory.getInstance(world);
+        defineBullet();
+        body.setActive(false);
     }
 
-
-    public void init() {
+    public void init(float x, float y, boolean isDirectionRight) {
+        this.x = x;
+        this.y = y;
+        this.isDirectionRight = isDirectionRight;
         stateTime = 0;
         setToDestroy = false;
         alive = true;
-        defineBullet();
+        placeBullet();
+        previousPosition.set(body.getPosition());
         body.setActive(true);
     }
 
+    @Override
+    public void reset() {
+        setToDestroy = false;
+        alive = false;
+    }
+
     public void update(float dt) {
         stateTime += dt;
         if((stateTime > 3 || setToDestroy) && alive) {
-            world.destroyBody(body);
+            body.setActive(false);
             setBounds(0, 0, 0,0);
             setSize(0, 0);
             alive = false;
@@ -53,8 +72,23 @@ public abstract class Bullet extends Sprite {
         return alive;
     }
 
+    // create the body once, at the origin
     protected abstract void defineBullet();
 
+    // move the body to x, y and set it going
+    protected abstract void placeBullet();
+
+    public void savePosition() {
+        if (alive) previousPosition.set(body.getPosition());
+    }
+
+    public void interpolate(float alpha) {
+        if (!alive) return;
+        Vector2 position = body.getPosition();
+        setPosition(previousPosition.x + (position.x - previousPosition.x) * alpha - getWidth() / 2,
+                previousPosition.y + (position.y - previousPosition.y) * alpha - getHeight() / 2);
+    }
+
     public void killPlayer(Player player) {
         player.playerDie();
         setToDestroy();
@@ -1,65 +1,62 @@
 package com.fgdev.game.entitiles.bullets;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.World;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.BodyFactory;
+import com.fgdev.game.utils.FacingAnimation;
 
 import static com.fgdev.game.Constants.PPM;
 
 public class EnemyBullet extends Bullet {
 
-    private Animation robotBullet;
+    private FacingAnimation robotBullet;
 
-    public EnemyBullet(World world, float x, float y, boolean isDirectionRight) {
+    public EnemyBullet(World world) {
         super(world);
-        this.x = x;
-        this.y = y;
-        this.isDirectionRight = isDirectionRight;
         robotBullet = Assets.instance.robot.animBullet;
-        init();
-        setRegion((TextureRegion) robotBullet.getKeyFrame(stateTime));
+    }
+
+    @Override
+    public void init(float x, float y, boolean isDirectionRight) {
+        super.init(x, y, isDirectionRight);
+        setRegion(robotBullet.flipped(!isDirectionRight).getKeyFrame(stateTime));
         setBounds(x, y, 22 * 2 / PPM, 18 * 2 / PPM);
     }
 
     @Override
     protected void defineBullet() {
         body = bodyFactory.makeBoxPolyBody(
-                isDirectionRight ? x : x - 1.50f,
-                y,
+                0,
+                0,
                 22 / PPM,
                 18 / PPM,
                 BodyFactory.BULLET,
                 BodyDef.BodyType.KinematicBody,
                 this
         );
-        body.setLinearVelocity(new Vector2(isDirectionRight ? 12 : -12,0));
     }
 
+    @Override
+    protected void placeBullet() {
+        body.setTransform(isDirectionRight ? x : x - 1.50f, y, 0);
+        body.setLinearVelocity(isDirectionRight ? 12 : -12, 0);
+    }
 
     @Override
     public void update(float dt) {
         super.update(dt);
+        if (!alive) return;
         setRegion(getFrame(dt));
         setPosition(body.getPosition().x - getWidth() / 2, body.getPosition().y - getHeight() / 2);
     }
 
     private TextureRegion getFrame(float dt) {
-        TextureRegion region = (TextureRegion) robotBullet.getKeyFrame(stateTime, true);
-        //if region is running left and the texture isnt facing left... flip it.
-        if ((body.getLinearVelocity().x < 0 || !isDirectionRight) && !region.isFlipX()) {
-            region.flip(true, false);
-            isDirectionRight = false;
-        }
-        //if region is running right and the texture isnt facing right... flip it.
-        else if ((body.getLinearVelocity().x > 0 || isDirectionRight) && region.isFlipX()) {
-            region.flip(true, false);
-            isDirectionRight = true;
-        }
-        return region;
+        // face the way it flies
+        if (body.getLinearVelocity().x < 0) isDirectionRight = false;
+        else if (body.getLinearVelocity().x > 0) isDirectionRight = true;
+        return robotBullet.flipped(!isDirectionRight).getKeyFrame(stateTime, true);
     }
 
 }
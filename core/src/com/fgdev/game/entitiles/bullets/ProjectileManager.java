@@ -0,0 +1,111 @@
+package com.fgdev.game.entitiles.bullets;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Every kunai and enemy bullet in the world. Shots are asked for at any time
+ * and all of them come out on the next {@link #update(float)}, spent ones go
+ * back to their pool with the body parked inactive.
+ */
+public class ProjectileManager {
+
+    private World world;
+
+    public static ProjectileManager instance;
+
+    private final Pool<Kunai> kunaiPool = new Pool<Kunai>() {
+        @Override
+        protected Kunai newObject() {
+            return new Kunai(world);
+        }
+    };
+    private final Pool<EnemyBullet> enemyBulletPool = new Pool<EnemyBullet>() {
+        @Override
+        protected EnemyBullet newObject() {
+            return new EnemyBullet(world);
+        }
+    };
+    private final Pool<SpawningBullet> spawnPool = new Pool<SpawningBullet>() {
+        @Override
+        protected SpawningBullet newObject() {
+            return new SpawningBullet();
+        }
+    };
+
+    private final Array<Bullet> projectiles = new Array<Bullet>(false, 32);
+    private final Array<SpawningBullet> spawnQueue = new Array<SpawningBullet>(false, 16);
+
+    public ProjectileManager(World world) {
+        this.world = world;
+    }
+
+    public static ProjectileManager getInstance(World world) {
+        if (instance == null) {
+            instance = new ProjectileManager(world);
+        } else if (instance.world != world) {
+            // the bodies went with the old world
+            instance.world = world;
+            instance.projectiles.clear();
+            instance.kunaiPool.clear();
+            instance.enemyBulletPool.clear();
+            instance.spawnPool.freeAll(instance.spawnQueue);
+            instance.spawnQueue.clear();
+        }
+        return instance;
+    }
+
+    public void spawnKunai(float x, float y, boolean movingRight) {
+        spawnQueue.add(spawnPool.obtain().set(x, y, movingRight, true));
+    }
+
+    public void spawnEnemyBullet(float x, float y, boolean movingRight) {
+        spawnQueue.add(spawnPool.obtain().set(x, y, movingRight, false));
+    }
+
+    /** Fires the queued shots and moves every projectile one step, not while the world is locked. */
+    public void update(float dt) {
+        for (int i = 0; i < spawnQueue.size; i++) {
+            SpawningBullet spawn = spawnQueue.get(i);
+            Bullet bullet = spawn.kunai ? kunaiPool.obtain() : enemyBulletPool.obtain();
+            bullet.init(spawn.x, spawn.y, spawn.movingRight);
+            projectiles.add(bullet);
+        }
+        spawnPool.freeAll(spawnQueue);
+        spawnQueue.clear();
+
+        for (int i = projectiles.size; --i >= 0;) {
+            Bullet bullet = projectiles.get(i);
+            bullet.update(dt);
+            if (!bullet.isAlive()) {
+                projectiles.removeIndex(i);
+                if (bullet instanceof Kunai) kunaiPool.free((Kunai) bullet);
+                else enemyBulletPool.free((EnemyBullet) bullet);
+            }
+        }
+    }
+
+    public void savePositions() {
+        for (int i = 0; i < projectiles.size; i++) {
+            projectiles.get(i).savePosition();
+        }
+    }
+
+    public void interpolate(float alpha) {
+        for (int i = 0; i < projectiles.size; i++) {
+            projectiles.get(i).interpolate(alpha);
+        }
+    }
+
+    public void draw(Batch batch) {
+        for (int i = 0; i < projectiles.size; i++) {
+            projectiles.get(i).draw(batch);
+        }
+    }
+
+    public int getProjectileCount() {
+        return projectiles.size;
+    }
+}
@@ -1,13 +1,22 @@
 package com.fgdev.game.entitiles.bullets;
 
-public class SpawningBullet {
+import com.badlogic.gdx.utils.Pool;
+
+public class SpawningBullet implements Pool.Poolable {
     public float x;
     public float y;
     public boolean movingRight;
+    public boolean kunai;
 
-    public SpawningBullet(float x, float y, boolean movingRight) {
+    public SpawningBullet set(float x, float y, boolean movingRight, boolean kunai) {
         this.x = x;
         this.y = y;
         this.movingRight = movingRight;
+        this.kunai = kunai;
+        return this;
+    }
+
+    @Override
+    public void reset() {
     }
 }
@@ -1,7 +1,5 @@
 package com.fgdev.game.entitiles.enemies;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
@@ -11,16 +9,17 @@ import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Pool;
 import com.fgdev.game.entitiles.Player;
-import com.fgdev.game.entitiles.bullets.EnemyBullet;
 import com.fgdev.game.helpers.ScoreIndicator;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.BodyFactory;
+import com.fgdev.game.utils.FacingAnimation;
 
 import static com.fgdev.game.Constants.PPM;
 
 public class AdventureGirl extends Enemy implements Pool.Poolable {
 
     public static final String TAG = AdventureGirl.class.getName();
+    public static final int SCORE = 100;
 
     public static final int SHOOT = 0;
     public static final int MELEE = 1;
@@ -32,13 +31,13 @@ public class AdventureGirl extends Enemy implements Pool.Poolable {
     private State currentState;
     private State previousState;
 
-    private Animation adventureGirlIdle;
-    private Animation adventureGirlRun;
-    private Animation adventureGirlDead;
-    private Animation adventureGirlShoot;
-    private Animation adventureGirlMelee;
-    private Animation adventureGirlSlide;
-    private Animation adventureGirlJump;
+    private FacingAnimation adventureGirlIdle;
+    private FacingAnimation adventureGirlRun;
+    private FacingAnimation adventureGirlDead;
+    private FacingAnimation adventureGirlShoot;
+    private FacingAnimation adventureGirlMelee;
+    private FacingAnimation adventureGirlSlide;
+    private FacingAnimation adventureGirlJump;
 
     private boolean isRun;
     private boolean isShoot;
@@ -72,7 +71,7 @@ public class AdventureGirl extends Enemy implements Pool.Poolable {
         speed = 1.5f;
         // Extend Abstract
         init();
-        setRegion((TextureRegion) adventureGirlIdle.getKeyFrame(stateTimer));
+        setRegion(adventureGirlIdle.flipped(!runningRight).getKeyFrame(stateTimer));
     }
 
     @Override
@@ -105,20 +104,6 @@ public class AdventureGirl extends Enemy implements Pool.Poolable {
 
         }
 
-        // spawn
-        handleSpawningBullet();
-
-        // update bullets
-        for (EnemyBullet bullet : bullets) {
-            bullet.update(dt);
-        }
-        // clean
-        for (int i = 0; i < bullets.size; i++) {
-            if (!bullets.get(i).isAlive()) {
-                bullets.removeIndex(i);
-            }
-        }
-
         super.update(dt);
     }
 
@@ -142,61 +127,55 @@ public class AdventureGirl extends Enemy implements Pool.Poolable {
     }
 
     @Override
-    protected TextureRegion getFrame(float dt) {
+    protected void updateState(float dt) {
         currentState = getState();
+        // face the way it moves, keep the last facing while standing still
+        if (body.getLinearVelocity().x < 0) runningRight = false;
+        else if (body.getLinearVelocity().x > 0) runningRight = true;
+        // fire once the shoot animation has played out
+        if (currentState == State.SHOOT && isShoot && adventureGirlShoot.isAnimationFinished(stateTimer)) {
+            float x = runningRight ? 1f : -1f;
+            float y = -0.1f;
+            addSpawnBullet(body.getPosition().x + x, body.getPosition().y + y, runningRight);
+            isShoot = false;
+            timeDelayIdle = 1;
+        }
+        //if the current state is the same as the previous state increase the state timer.
+        //otherwise the state has changed and we need to reset timer.
+        stateTimer = currentState == previousState ? stateTimer + dt : 0;
+        //update previous state
+        previousState = currentState;
+    }
+
+    @Override
+    protected TextureRegion getFrame() {
         TextureRegion region;
         //depending on the state, get corresponding animation KeyFrame
         switch (currentState) {
             case RUN:
-                region = (TextureRegion) adventureGirlRun.getKeyFrame(stateTimer, true);
+                region = adventureGirlRun.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case DEAD:
-                region = (TextureRegion) adventureGirlDead.getKeyFrame(stateTimer);
+                region = adventureGirlDead.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case SHOOT:
-                region = (TextureRegion) adventureGirlShoot.getKeyFrame(stateTimer);
-                if (adventureGirlShoot.isAnimationFinished(stateTimer)) {
-                    if (isShoot) {
-                        float x = runningRight ? 1f : -1f;
-                        float y = -0.1f;
-                        // if you want to spawn a new bullet:
-                        addSpawnBullet(body.getPosition().x + x, body.getPosition().y + y, runningRight ? true : false);
-                        isShoot = false;
-                        timeDelayIdle = 1;
-                    }
-                }
+                region = adventureGirlShoot.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case MELEE:
-                region = (TextureRegion) adventureGirlMelee.getKeyFrame(stateTimer, true);
+                region = adventureGirlMelee.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case SLIDE:
-                region = (TextureRegion) adventureGirlSlide.getKeyFrame(stateTimer);
+                region = adventureGirlSlide.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case JUMP:
-                region = (TextureRegion) adventureGirlJump.getKeyFrame(stateTimer);
+                region = adventureGirlJump.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case IDLE:
             default:
-                region = (TextureRegion) adventureGirlIdle.getKeyFrame(stateTimer,true);
+                region = adventureGirlIdle.flipped(!runningRight).getKeyFrame(stateTimer,true);
                 break;
         }
 
-        //if player is running left and the texture isnt facing left... flip it.
-        if ((body.getLinearVelocity().x < 0 || !runningRight) && !region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = false;
-        }
-        //if player is running right and the texture isnt facing right... flip it.
-        else if ((body.getLinearVelocity().x > 0 || runningRight) && region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = true;
-        }
-
-        //if the current state is the same as the previous state increase the state timer.
-        //otherwise the state has changed and we need to reset timer.
-        stateTimer = currentState == previousState ? stateTimer + dt : 0;
-        //update previous state
-        previousState = currentState;
         return region;
     }
 
@@ -216,16 +195,6 @@ public class AdventureGirl extends Enemy implements Pool.Poolable {
             return State.IDLE;
     }
 
-    @Override
-    public void draw(Batch batch) {
-        super.draw(batch);
-
-        // draw bullets
-        for (EnemyBullet bullet : bullets) {
-            bullet.draw(batch);
-        }
-    }
-
     private void makeBoxRobotBody(float posx, float posy) {
         float width = (96 - 45)/ PPM;
         float height = (81 - 10) / PPM;
@@ -267,13 +236,19 @@ public class AdventureGirl extends Enemy implements Pool.Poolable {
 
     @Override
     public int score() {
-        return 100;
+        return SCORE;
+    }
+
+    @Override
+    public float getCullHalfWidth() {
+        // widest of its frames, the idle and run frames
+        return 96 / PPM;
     }
 
     @Override
     public void killed() {
         super.killed();
-        setRegion((TextureRegion) adventureGirlDead.getKeyFrame(stateTimer));
+        setRegion(adventureGirlDead.flipped(!runningRight).getKeyFrame(stateTimer));
         isDead = true;
         isRun = false;
         becomeDead();
@@ -281,7 +256,7 @@ public class AdventureGirl extends Enemy implements Pool.Poolable {
 
     @Override
     public void beginAttack(Player player) {
-        setRegion((TextureRegion) adventureGirlMelee.getKeyFrame(stateTimer));
+        setRegion(adventureGirlMelee.flipped(!runningRight).getKeyFrame(stateTimer));
         player.playerDie();
         isMelee = true;
         isRun = false;
@@ -290,7 +265,7 @@ public class AdventureGirl extends Enemy implements Pool.Poolable {
 
     @Override
     public void endAttack(Player player) {
-        setRegion((TextureRegion) adventureGirlIdle.getKeyFrame(stateTimer));
+        setRegion(adventureGirlIdle.flipped(!runningRight).getKeyFrame(stateTimer));
         isRun = true;
         isMelee = false;
     }
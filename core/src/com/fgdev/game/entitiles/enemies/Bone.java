@@ -1,6 +1,5 @@
 package com.fgdev.game.entitiles.enemies;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
@@ -13,6 +12,7 @@ import com.fgdev.game.entitiles.Player;
 import com.fgdev.game.helpers.ScoreIndicator;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.BodyFactory;
+import com.fgdev.game.utils.FacingAnimation;
 import com.fgdev.game.utils.ValueManager;
 
 import static com.fgdev.game.Constants.PPM;
@@ -20,6 +20,7 @@ import static com.fgdev.game.Constants.PPM;
 public class Bone extends Enemy implements Pool.Poolable {
 
     public static final String TAG = Bone.class.getName();
+    public static final int SCORE = 50;
 
     public enum State {
         WALK, DEAD, ATTACK
@@ -27,9 +28,9 @@ public class Bone extends Enemy implements Pool.Poolable {
 
     private State currentState;
     private State previousState;
-    private Animation boneWalk;
-    private Animation boneDead;
-    private Animation boneAttack;
+    private FacingAnimation boneWalk;
+    private FacingAnimation boneDead;
+    private FacingAnimation boneAttack;
 
     private boolean isWalk;
     private boolean isAttack;
@@ -52,7 +53,7 @@ public class Bone extends Enemy implements Pool.Poolable {
         boneAttack = Assets.instance.bone.animAttack;
         // Extend Abstract
         init();
-        setRegion((TextureRegion) boneWalk.getKeyFrame(stateTimer));
+        setRegion(boneWalk.flipped(runningRight).getKeyFrame(stateTimer));
     }
 
     @Override
@@ -82,38 +83,36 @@ public class Bone extends Enemy implements Pool.Poolable {
     }
 
     @Override
-    protected TextureRegion getFrame(float dt) {
+    protected void updateState(float dt) {
         currentState = getState();
+        // face the way it moves, keep the last facing while standing still
+        if (body.getLinearVelocity().x < 0) runningRight = false;
+        else if (body.getLinearVelocity().x > 0) runningRight = true;
+        //if the current state is the same as the previous state increase the state timer.
+        //otherwise the state has changed and we need to reset timer.
+        stateTimer = currentState == previousState ? stateTimer + dt : 0;
+        //update previous state
+        previousState = currentState;
+    }
+
+    @Override
+    protected TextureRegion getFrame() {
         TextureRegion region;
+        // the bone frames are drawn facing left, right takes the flipped ones
         //depending on the state, get corresponding animation KeyFrame
         switch (currentState) {
             case DEAD:
-                region = (TextureRegion) boneDead.getKeyFrame(stateTimer);
+                region = boneDead.flipped(runningRight).getKeyFrame(stateTimer);
                 break;
             case ATTACK:
-                region = (TextureRegion) boneAttack.getKeyFrame(stateTimer, true);
+                region = boneAttack.flipped(runningRight).getKeyFrame(stateTimer, true);
                 break;
             case WALK:
             default:
-                region = (TextureRegion) boneWalk.getKeyFrame(stateTimer, true);
+                region = boneWalk.flipped(runningRight).getKeyFrame(stateTimer, true);
                 break;
         }
-        //if player is running left and the texture isnt facing left... flip it.
-        if ((body.getLinearVelocity().x < 0 || !runningRight) && region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = false;
-        }
-        //if player is running right and the texture isnt facing right... flip it.
-        else if ((body.getLinearVelocity().x > 0 || runningRight) && !region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = true;
-        }
 
-        //if the current state is the same as the previous state increase the state timer.
-        //otherwise the state has changed and we need to reset timer.
-        stateTimer = currentState == previousState ? stateTimer + dt : 0;
-        //update previous state
-        previousState = currentState;
         return region;
     }
 
@@ -171,13 +170,18 @@ public class Bone extends Enemy implements Pool.Poolable {
 
     @Override
     public int score() {
-        return 50;
+        return SCORE;
+    }
+
+    @Override
+    public float getCullHalfWidth() {
+        return 58 / PPM;
     }
 
     @Override
     public void killed() {
         super.killed();
-        setRegion((TextureRegion) boneDead.getKeyFrame(stateTimer));
+        setRegion(boneDead.flipped(runningRight).getKeyFrame(stateTimer));
         isDead = true;
         isWalk = false;
         becomeDead();
@@ -185,7 +189,7 @@ public class Bone extends Enemy implements Pool.Poolable {
 
     @Override
     public void beginAttack(Player player) {
-        setRegion((TextureRegion) boneAttack.getKeyFrame(stateTimer));
+        setRegion(boneAttack.flipped(runningRight).getKeyFrame(stateTimer));
         player.playerDie();
         isAttack = true;
         isWalk = false;
@@ -194,7 +198,7 @@ public class Bone extends Enemy implements Pool.Poolable {
 
     @Override
     public void endAttack(Player player) {
-        setRegion((TextureRegion) boneWalk.getKeyFrame(stateTimer));
+        setRegion(boneWalk.flipped(runningRight).getKeyFrame(stateTimer));
         isWalk = true;
         isAttack = false;
     }
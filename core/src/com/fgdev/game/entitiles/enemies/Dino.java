@@ -1,6 +1,5 @@
 package com.fgdev.game.entitiles.enemies;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
@@ -13,12 +12,14 @@ import com.fgdev.game.entitiles.Player;
 import com.fgdev.game.helpers.ScoreIndicator;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.BodyFactory;
+import com.fgdev.game.utils.FacingAnimation;
 
 import static com.fgdev.game.Constants.PPM;
 
 public class Dino  extends Enemy implements Pool.Poolable {
 
     public static final String TAG = Dino.class.getName();
+    public static final int SCORE = 50;
 
     public enum State {
         IDLE, RUN, DEAD, JUMP, WALK
@@ -27,11 +28,11 @@ public class Dino  extends Enemy implements Pool.Poolable {
     private State currentState;
     private State previousState;
 
-    private Animation dinoIdle;
-    private Animation dinoRun;
-    private Animation dinoDead;
-    private Animation dinoWalk;
-    private Animation dinoJump;
+    private FacingAnimation dinoIdle;
+    private FacingAnimation dinoRun;
+    private FacingAnimation dinoDead;
+    private FacingAnimation dinoWalk;
+    private FacingAnimation dinoJump;
 
     private boolean isRun;
     private boolean isAttack;
@@ -56,7 +57,7 @@ public class Dino  extends Enemy implements Pool.Poolable {
         speed = 1f;
         // Extend Abstract
         init();
-        setRegion((TextureRegion) dinoIdle.getKeyFrame(stateTimer));
+        setRegion(dinoIdle.flipped(!runningRight).getKeyFrame(stateTimer));
     }
 
     @Override
@@ -82,44 +83,41 @@ public class Dino  extends Enemy implements Pool.Poolable {
     }
 
     @Override
-    protected TextureRegion getFrame(float dt) {
+    protected void updateState(float dt) {
         currentState = getState();
+        // face the way it moves, keep the last facing while standing still
+        if (body.getLinearVelocity().x < 0) runningRight = false;
+        else if (body.getLinearVelocity().x > 0) runningRight = true;
+        //if the current state is the same as the previous state increase the state timer.
+        //otherwise the state has changed and we need to reset timer.
+        stateTimer = currentState == previousState ? stateTimer + dt : 0;
+        //update previous state
+        previousState = currentState;
+    }
+
+    @Override
+    protected TextureRegion getFrame() {
         TextureRegion region;
         //depending on the state, get corresponding animation KeyFrame
         switch (currentState) {
             case RUN:
-                region = (TextureRegion) dinoRun.getKeyFrame(stateTimer, true);
+                region = dinoRun.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case DEAD:
-                region = (TextureRegion) dinoDead.getKeyFrame(stateTimer);
+                region = dinoDead.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case WALK:
-                region = (TextureRegion) dinoWalk.getKeyFrame(stateTimer, true);
+                region = dinoWalk.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case JUMP:
-                region = (TextureRegion) dinoJump.getKeyFrame(stateTimer, true);
+                region = dinoJump.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case IDLE:
             default:
-                region = (TextureRegion) dinoIdle.getKeyFrame(stateTimer,true);
+                region = dinoIdle.flipped(!runningRight).getKeyFrame(stateTimer,true);
                 break;
         }
-        //if player is running left and the texture isnt facing left... flip it.
-        if ((body.getLinearVelocity().x < 0 || !runningRight) && !region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = false;
-        }
-        //if player is running right and the texture isnt facing right... flip it.
-        else if ((body.getLinearVelocity().x > 0 || runningRight) && region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = true;
-        }
 
-        //if the current state is the same as the previous state increase the state timer.
-        //otherwise the state has changed and we need to reset timer.
-        stateTimer = currentState == previousState ? stateTimer + dt : 0;
-        //update previous state
-        previousState = currentState;
         return region;
     }
 
@@ -177,13 +175,18 @@ public class Dino  extends Enemy implements Pool.Poolable {
 
     @Override
     public int score() {
-        return 50;
+        return SCORE;
+    }
+
+    @Override
+    public float getCullHalfWidth() {
+        return 136 / PPM;
     }
 
     @Override
     public void killed() {
         super.killed();
-        setRegion((TextureRegion) dinoDead.getKeyFrame(stateTimer));
+        setRegion(dinoDead.flipped(!runningRight).getKeyFrame(stateTimer));
         isDead = true;
         isRun = false;
         becomeDead();
@@ -191,7 +194,7 @@ public class Dino  extends Enemy implements Pool.Poolable {
 
     @Override
     public void beginAttack(Player player) {
-        setRegion((TextureRegion) dinoJump.getKeyFrame(stateTimer));
+        setRegion(dinoJump.flipped(!runningRight).getKeyFrame(stateTimer));
         player.playerDie();
         isAttack = true;
         isRun = false;
@@ -200,7 +203,7 @@ public class Dino  extends Enemy implements Pool.Poolable {
 
     @Override
     public void endAttack(Player player) {
-        setRegion((TextureRegion) dinoIdle.getKeyFrame(stateTimer));
+        setRegion(dinoIdle.flipped(!runningRight).getKeyFrame(stateTimer));
         isRun = true;
         isAttack = false;
     }
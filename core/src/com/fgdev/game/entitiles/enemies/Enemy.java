@@ -8,17 +8,13 @@ import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.Array;
 import com.fgdev.game.Constants;
 import com.fgdev.game.entitiles.Player;
-import com.fgdev.game.entitiles.bullets.EnemyBullet;
-import com.fgdev.game.entitiles.bullets.SpawningBullet;
-import com.fgdev.game.entitiles.tiles.item.ItemObject;
+import com.fgdev.game.entitiles.bullets.ProjectileManager;
 import com.fgdev.game.helpers.ScoreIndicator;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.AudioManager;
 import com.fgdev.game.utils.BodyFactory;
 import com.fgdev.game.utils.ValueManager;
 
-import java.util.LinkedList;
-
 public abstract class Enemy extends Sprite {
     protected World world;
     protected Body body;
@@ -38,16 +34,19 @@ public abstract class Enemy extends Sprite {
 
     protected float timeDelayDie = 3;
 
-    protected Array<EnemyBullet> bullets;
-    protected LinkedList<SpawningBullet> bulletSpawnQueue;
+
+    protected final Vector2 previousPosition = new Vector2();
+    // Off-screen enemies keep simulating but skip picking a frame
+    protected boolean inView = true;
+    // Parked outside the simulation window the body is inactive
+    protected boolean inWindow = true;
+    // Steps left until the next wall probe
+    protected int probeCountdown;
 
     public Enemy(World world, ScoreIndicator scoreIndicator) {
         this.world = world;
         this.scoreIndicator = scoreIndicator;
         bodyFactory = BodyFactory.getInstance(world);
-        // for spawning bullets
-        bullets = new Array<EnemyBullet>();
-        bulletSpawnQueue = new LinkedList<SpawningBullet>();
     }
 
     public void init() {
@@ -55,6 +54,7 @@ public abstract class Enemy extends Sprite {
         toBeDestroyed = false;
         destroyed = false;
         defineEnemy();
+        previousPosition.set(body.getPosition());
         body.setActive(false);
     }
 
@@ -86,20 +86,35 @@ public abstract class Enemy extends Sprite {
             }
         }
 
+        // State, facing and shooting run every step, culled or not
+        updateState(dt);
+        if (!inView) return;
         setBoundForRegion();
-        setRegion(getFrame(dt));
+        setRegion(getFrame());
         setPosition(body.getPosition().x - getWidth() / 2, body.getPosition().y - getHeight() / 2);
     }
 
+    public void savePosition() {
+        if (body != null) previousPosition.set(body.getPosition());
+    }
+
+    public void interpolate(float alpha) {
+        if (body == null) return;
+        Vector2 position = body.getPosition();
+        setPosition(previousPosition.x + (position.x - previousPosition.x) * alpha - getWidth() / 2,
+                previousPosition.y + (position.y - previousPosition.y) * alpha - getHeight() / 2);
+    }
+
     protected void running() {
         if (body != null) {
-            checkMovingDirection();
-            float velocityY = body.getLinearVelocity().y;
-            if (runningRight) {
-                body.setLinearVelocity(new Vector2(speed, velocityY));
-            } else {
-                body.setLinearVelocity(new Vector2(-speed, velocityY));
+            Vector2 velocity = body.getLinearVelocity();
+            // Probe every few steps, or straight away when something stopped us.
+            // A parked enemy goes nowhere, it probes once back in the window.
+            if (inWindow && (--probeCountdown <= 0 || (runningRight ? velocity.x <= 0 : velocity.x >= 0))) {
+                probeCountdown = Constants.ENEMY_PROBE_STEPS;
+                EnemyProbeService.getInstance(world).request(this);
             }
+            body.setLinearVelocity(runningRight ? speed : -speed, velocity.y);
         }
     }
 
@@ -109,10 +124,16 @@ public abstract class Enemy extends Sprite {
 
     protected abstract void setBoundForRegion();
 
-    protected abstract TextureRegion getFrame(float dt);
+    protected abstract void updateState(float dt);
+
+    /** Frame for the state updateState settled on, only asked for while in view. */
+    protected abstract TextureRegion getFrame();
 
     public abstract int score();
 
+    /** Half the widest frame, for culling from the body position. */
+    public abstract float getCullHalfWidth();
+
     public void killed() {
         AudioManager.instance.play(Assets.instance.sounds.enemy_dead);
     }
@@ -129,6 +150,22 @@ public abstract class Enemy extends Sprite {
         return destroyed;
     }
 
+    public void setInView(boolean inView) {
+        this.inView = inView;
+    }
+
+    public boolean isInView() {
+        return inView;
+    }
+
+    public void setInWindow(boolean inWindow) {
+        this.inWindow = inWindow;
+    }
+
+    public boolean isRunningRight() {
+        return runningRight;
+    }
+
     public Body getBody() {
         return body;
     }
@@ -147,34 +184,7 @@ public abstract class Enemy extends Sprite {
     }
 
     protected void checkMovingDirection() {
-        Vector2 p1;
-        Vector2 p2;
-
-        RayCastCallback rayCastCallback = new RayCastCallback() {
-            @Override
-            public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
-                if (fixture.getUserData() instanceof ItemObject) {
-                    return 1;
-                }
-                if (fraction < 1.0f && fixture.getUserData().getClass() != Player.class) {
-                    runningRight = !runningRight;
-                }
-                return 0;
-            }
-        };
-
-        if (runningRight) {
-            p1 = new Vector2(body.getPosition().x + 1f, body.getPosition().y);
-            p2 = new Vector2(p1).add(0.1f, 0);
-
-            world.rayCast(rayCastCallback, p1, p2);
-        }
-        else {
-            p1 = new Vector2(body.getPosition().x - 1f, body.getPosition().y);
-            p2 = new Vector2(p1).add(-0.1f, 0);
-
-            world.rayCast(rayCastCallback, p1, p2);
-        }
+        EnemyProbeService.getInstance(world).probe(this);
     }
 
     protected World getWorld() {
@@ -183,13 +193,6 @@ public abstract class Enemy extends Sprite {
 
     public void addSpawnBullet(float x, float y, boolean movingRight) {
         AudioManager.instance.play(Assets.instance.sounds.bullet_enemy);
-        bulletSpawnQueue.add(new SpawningBullet(x, y, movingRight));
-    }
-
-    public void handleSpawningBullet() {
-        if (bulletSpawnQueue.size() > 0) {
-            SpawningBullet spawningBullet = bulletSpawnQueue.poll();
-            bullets.add(new EnemyBullet(getWorld(), spawningBullet.x, spawningBullet.y, spawningBullet.movingRight));
-        }
+        ProjectileManager.getInstance(world).spawnEnemyBullet(x, y, movingRight);
     }
 }
@@ -0,0 +1,82 @@
+package com.fgdev.game.entitiles.enemies;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.RayCastCallback;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+
+import static com.fgdev.game.Constants.ATTACK_BIT;
+import static com.fgdev.game.Constants.ITEM_BIT;
+import static com.fgdev.game.Constants.PLAYER_BIT;
+
+/**
+ * Wall probes for walking enemies. Enemies ask for a probe while they run and
+ * all of them are cast together by {@link #flush()} after the step, through
+ * one callback and a pair of reused vectors.
+ */
+public class EnemyProbeService {
+
+    private World world;
+
+    public static EnemyProbeService instance;
+
+    private final Array<Enemy> requests = new Array<Enemy>(false, 32);
+    private final Vector2 from = new Vector2();
+    private final Vector2 to = new Vector2();
+    private Enemy probing;
+
+    private final RayCastCallback rayCastCallback = new RayCastCallback() {
+        @Override
+        public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+            int category = fixture.getFilterData().categoryBits;
+            // look through items
+            if (category == ITEM_BIT) return 1;
+            // the player body and attack sensor never turn an enemy around
+            if (fraction < 1.0f && category != PLAYER_BIT && category != ATTACK_BIT)
+                probing.runningRight = !probing.runningRight;
+            return 0;
+        }
+    };
+
+    public EnemyProbeService(World world) {
+        this.world = world;
+    }
+
+    public static EnemyProbeService getInstance(World world) {
+        if (instance == null) {
+            instance = new EnemyProbeService(world);
+        } else if (instance.world != world) {
+            instance.world = world;
+            instance.requests.clear();
+        }
+        return instance;
+    }
+
+    /** Queues a probe for the enemy, cast on the next {@link #flush()}. */
+    public void request(Enemy enemy) {
+        requests.add(enemy);
+    }
+
+    /** Casts the queued probes, call after world.step. */
+    public void flush() {
+        for (int i = 0; i < requests.size; i++) {
+            probe(requests.get(i));
+        }
+        requests.clear();
+    }
+
+    /** Casts a short ray just ahead of the enemy and turns it around at a wall. */
+    public void probe(Enemy enemy) {
+        Body body = enemy.body;
+        if (body == null || !body.isActive()) return;
+        Vector2 position = body.getPosition();
+        float direction = enemy.runningRight ? 1 : -1;
+        from.set(position.x + direction, position.y);
+        to.set(from.x + direction * 0.1f, from.y);
+        probing = enemy;
+        world.rayCast(rayCastCallback, from, to);
+        probing = null;
+    }
+}
@@ -1,6 +1,5 @@
 package com.fgdev.game.entitiles.enemies;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
@@ -13,6 +12,7 @@ import com.fgdev.game.entitiles.Player;
 import com.fgdev.game.helpers.ScoreIndicator;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.BodyFactory;
+import com.fgdev.game.utils.FacingAnimation;
 import com.fgdev.game.utils.ValueManager;
 
 import static com.fgdev.game.Constants.PPM;
@@ -20,6 +20,7 @@ import static com.fgdev.game.Constants.PPM;
 public class Ghost extends Enemy implements Pool.Poolable {
 
     public static final String TAG = Ghost.class.getName();
+    public static final int SCORE = 50;
 
     public enum State {
         IDLE, RUN, DEAD, JUMP,
@@ -28,10 +29,10 @@ public class Ghost extends Enemy implements Pool.Poolable {
     private State currentState;
     private State previousState;
 
-    private Animation ghostIdle;
-    private Animation ghostRun;
-    private Animation ghostDead;
-    private Animation ghostJump;
+    private FacingAnimation ghostIdle;
+    private FacingAnimation ghostRun;
+    private FacingAnimation ghostDead;
+    private FacingAnimation ghostJump;
 
     private boolean isRun;
 
@@ -53,7 +54,7 @@ public class Ghost extends Enemy implements Pool.Poolable {
         ghostJump = Assets.instance.ghost.animJump;
         // Extend Abstract
         init();
-        setRegion((TextureRegion) ghostIdle.getKeyFrame(stateTimer));
+        setRegion(ghostIdle.flipped(!runningRight).getKeyFrame(stateTimer));
     }
 
     @Override
@@ -97,41 +98,38 @@ public class Ghost extends Enemy implements Pool.Poolable {
     }
 
     @Override
-    protected TextureRegion getFrame(float dt) {
+    protected void updateState(float dt) {
         currentState = getState();
+        // face the way it moves, keep the last facing while standing still
+        if (body.getLinearVelocity().x < 0) runningRight = false;
+        else if (body.getLinearVelocity().x > 0) runningRight = true;
+        //if the current state is the same as the previous state increase the state timer.
+        //otherwise the state has changed and we need to reset timer.
+        stateTimer = currentState == previousState ? stateTimer + dt : 0;
+        //update previous state
+        previousState = currentState;
+    }
+
+    @Override
+    protected TextureRegion getFrame() {
         TextureRegion region;
         //depending on the state, get corresponding animation KeyFrame
         switch (currentState) {
             case RUN:
-                region = (TextureRegion) ghostRun.getKeyFrame(stateTimer, true);
+                region = ghostRun.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case DEAD:
-                region = (TextureRegion) ghostDead.getKeyFrame(stateTimer);
+                region = ghostDead.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case JUMP:
-                region = (TextureRegion) ghostIdle.getKeyFrame(stateTimer, true);
+                region = ghostIdle.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case IDLE:
             default:
-                region = (TextureRegion) ghostIdle.getKeyFrame(stateTimer, true);
+                region = ghostIdle.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
         }
-        //if player is running left and the texture isnt facing left... flip it.
-        if ((body.getLinearVelocity().x < 0 || !runningRight) && !region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = false;
-        }
-        //if player is running right and the texture isnt facing right... flip it.
-        else if ((body.getLinearVelocity().x > 0 || runningRight) && region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = true;
-        }
 
-        //if the current state is the same as the previous state increase the state timer.
-        //otherwise the state has changed and we need to reset timer.
-        stateTimer = currentState == previousState ? stateTimer + dt : 0;
-        //update previous state
-        previousState = currentState;
         return region;
     }
 
@@ -186,13 +184,19 @@ public class Ghost extends Enemy implements Pool.Poolable {
 
     @Override
     public int score() {
-        return 50;
+        return SCORE;
+    }
+
+    @Override
+    public float getCullHalfWidth() {
+        // widest of its frames, the dead frames
+        return 105 / PPM;
     }
 
     @Override
     public void killed() {
         super.killed();
-        setRegion((TextureRegion) ghostDead.getKeyFrame(stateTimer));
+        setRegion(ghostDead.flipped(!runningRight).getKeyFrame(stateTimer));
         isDead = true;
         isRun = false;
         becomeDead();
@@ -200,7 +204,7 @@ public class Ghost extends Enemy implements Pool.Poolable {
 
     @Override
     public void beginAttack(Player player) {
-        setRegion((TextureRegion) ghostIdle.getKeyFrame(stateTimer));
+        setRegion(ghostIdle.flipped(!runningRight).getKeyFrame(stateTimer));
         player.playerDie();
         isRun = false;
         body.getLinearVelocity().x = 0;
@@ -208,7 +212,7 @@ public class Ghost extends Enemy implements Pool.Poolable {
 
     @Override
     public void endAttack(Player player) {
-        setRegion((TextureRegion) ghostRun.getKeyFrame(stateTimer));
+        setRegion(ghostRun.flipped(!runningRight).getKeyFrame(stateTimer));
         isRun = true;
     }
 }
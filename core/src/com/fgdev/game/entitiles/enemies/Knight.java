@@ -1,6 +1,5 @@
 package com.fgdev.game.entitiles.enemies;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
@@ -13,12 +12,14 @@ import com.fgdev.game.entitiles.Player;
 import com.fgdev.game.helpers.ScoreIndicator;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.BodyFactory;
+import com.fgdev.game.utils.FacingAnimation;
 
 import static com.fgdev.game.Constants.PPM;
 
 public class Knight extends Enemy implements Pool.Poolable {
 
     public static final String TAG = Knight.class.getName();
+    public static final int SCORE = 150;
 
     public enum State {
         IDLE, RUN, DEAD, JUMP, ATTACK, JUMP_ATTACK, WALK
@@ -27,13 +28,13 @@ public class Knight extends Enemy implements Pool.Poolable {
     private State currentState;
     private State previousState;
 
-    private Animation knightIdle;
-    private Animation knightRun;
-    private Animation knightDead;
-    private Animation knightAttack;
-    private Animation knightJumpAttack;
-    private Animation knightWalk;
-    private Animation knightJump;
+    private FacingAnimation knightIdle;
+    private FacingAnimation knightRun;
+    private FacingAnimation knightDead;
+    private FacingAnimation knightAttack;
+    private FacingAnimation knightJumpAttack;
+    private FacingAnimation knightWalk;
+    private FacingAnimation knightJump;
 
     private boolean isRun;
     private boolean isAttack;
@@ -62,7 +63,7 @@ public class Knight extends Enemy implements Pool.Poolable {
         speed = 1f;
         // Extend Abstract
         init();
-        setRegion((TextureRegion) knightIdle.getKeyFrame(stateTimer));
+        setRegion(knightIdle.flipped(!runningRight).getKeyFrame(stateTimer));
     }
 
     @Override
@@ -97,52 +98,47 @@ public class Knight extends Enemy implements Pool.Poolable {
     }
 
     @Override
-    protected TextureRegion getFrame(float dt) {
+    protected void updateState(float dt) {
         currentState = getState();
+        // face the way it moves, keep the last facing while standing still
+        if (body.getLinearVelocity().x < 0) runningRight = false;
+        else if (body.getLinearVelocity().x > 0) runningRight = true;
+        //if the current state is the same as the previous state increase the state timer.
+        //otherwise the state has changed and we need to reset timer.
+        stateTimer = currentState == previousState ? stateTimer + dt : 0;
+        //update previous state
+        previousState = currentState;
+    }
+
+    @Override
+    protected TextureRegion getFrame() {
         TextureRegion region;
         //depending on the state, get corresponding animation KeyFrame
         switch (currentState) {
             case RUN:
-                region = (TextureRegion) knightRun.getKeyFrame(stateTimer, true);
+                region = knightRun.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case DEAD:
-                region = (TextureRegion) knightDead.getKeyFrame(stateTimer);
+                region = knightDead.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case ATTACK:
-                region = (TextureRegion) knightAttack.getKeyFrame(stateTimer, true);
+                region = knightAttack.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case JUMP_ATTACK:
-                region = (TextureRegion) knightJumpAttack.getKeyFrame(stateTimer);
+                region = knightJumpAttack.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case WALK:
-                region = (TextureRegion) knightWalk.getKeyFrame(stateTimer);
+                region = knightWalk.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case JUMP:
-                region = (TextureRegion) knightJump.getKeyFrame(stateTimer);
+                region = knightJump.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case IDLE:
             default:
-                region = (TextureRegion) knightIdle.getKeyFrame(stateTimer,true);
+                region = knightIdle.flipped(!runningRight).getKeyFrame(stateTimer,true);
                 break;
         }
 
-        //if object is running left and the texture isnt facing left... flip it.
-        if ((body.getLinearVelocity().x < 0 || !runningRight) && !region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = false;
-        }
-        //if object is running right and the texture isnt facing right... flip it.
-        else if ((body.getLinearVelocity().x > 0 || runningRight) && region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = true;
-        }
-
-        //if the current state is the same as the previous state increase the state timer.
-        //otherwise the state has changed and we need to reset timer.
-        stateTimer = currentState == previousState ? stateTimer + dt : 0;
-        //update previous state
-        previousState = currentState;
-
         return region;
     }
 
@@ -199,13 +195,19 @@ public class Knight extends Enemy implements Pool.Poolable {
 
     @Override
     public int score() {
-        return 150;
+        return SCORE;
+    }
+
+    @Override
+    public float getCullHalfWidth() {
+        // widest of its frames, the attack frames
+        return 142 / PPM;
     }
 
     @Override
     public void killed() {
         super.killed();
-        setRegion((TextureRegion) knightDead.getKeyFrame(stateTimer));
+        setRegion(knightDead.flipped(!runningRight).getKeyFrame(stateTimer));
         isDead = true;
         isRun = false;
         becomeDead();
@@ -213,7 +215,7 @@ public class Knight extends Enemy implements Pool.Poolable {
 
     @Override
     public void beginAttack(Player player) {
-        setRegion((TextureRegion) knightAttack.getKeyFrame(stateTimer));
+        setRegion(knightAttack.flipped(!runningRight).getKeyFrame(stateTimer));
         player.playerDie();
         isAttack = true;
         isRun = false;
@@ -222,7 +224,7 @@ public class Knight extends Enemy implements Pool.Poolable {
 
     @Override
     public void endAttack(Player player) {
-        setRegion((TextureRegion) knightIdle.getKeyFrame(stateTimer));
+        setRegion(knightIdle.flipped(!runningRight).getKeyFrame(stateTimer));
         isRun = true;
         isAttack = false;
     }
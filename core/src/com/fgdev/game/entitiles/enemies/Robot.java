@@ -1,7 +1,5 @@
 package com.fgdev.game.entitiles.enemies;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
@@ -12,10 +10,10 @@ import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
 import com.fgdev.game.entitiles.Player;
-import com.fgdev.game.entitiles.bullets.EnemyBullet;
 import com.fgdev.game.helpers.ScoreIndicator;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.BodyFactory;
+import com.fgdev.game.utils.FacingAnimation;
 import com.fgdev.game.utils.ValueManager;
 
 import static com.fgdev.game.Constants.PPM;
@@ -23,6 +21,7 @@ import static com.fgdev.game.Constants.PPM;
 public class Robot extends Enemy implements Pool.Poolable {
 
     public static final String TAG = Robot.class.getName();
+    public static final int SCORE = 100;
 
     public static final int SHOOT = 0;
     public static final int MELEE = 1;
@@ -36,16 +35,16 @@ public class Robot extends Enemy implements Pool.Poolable {
     private State currentState;
     private State previousState;
 
-    private Animation robotIdle;
-    private Animation robotRun;
-    private Animation robotDead;
-    private Animation robotShoot;
-    private Animation robotJumpShoot;
-    private Animation robotJumpMelee;
-    private Animation robotMelee;
-    private Animation robotRunShoot;
-    private Animation robotSlide;
-    private Animation robotJump;
+    private FacingAnimation robotIdle;
+    private FacingAnimation robotRun;
+    private FacingAnimation robotDead;
+    private FacingAnimation robotShoot;
+    private FacingAnimation robotJumpShoot;
+    private FacingAnimation robotJumpMelee;
+    private FacingAnimation robotMelee;
+    private FacingAnimation robotRunShoot;
+    private FacingAnimation robotSlide;
+    private FacingAnimation robotJump;
 
     private boolean isRun;
     private boolean isShoot;
@@ -82,7 +81,7 @@ public class Robot extends Enemy implements Pool.Poolable {
         speed = 1.5f;
         // Extend Abstract
         init();
-        setRegion((TextureRegion) robotIdle.getKeyFrame(stateTimer));
+        setRegion(robotIdle.flipped(!runningRight).getKeyFrame(stateTimer));
     }
 
     @Override
@@ -107,20 +106,6 @@ public class Robot extends Enemy implements Pool.Poolable {
 
         }
 
-        // spawn
-        handleSpawningBullet();
-
-        // update bullets
-        for (EnemyBullet bullet : bullets) {
-            bullet.update(dt);
-        }
-        // clean
-        for (int i = 0; i < bullets.size; i++) {
-            if (!bullets.get(i).isAlive()) {
-                bullets.removeIndex(i);
-            }
-        }
-
         super.update(dt);
     }
 
@@ -147,71 +132,64 @@ public class Robot extends Enemy implements Pool.Poolable {
     }
 
     @Override
-    protected TextureRegion getFrame(float dt) {
+    protected void updateState(float dt) {
         currentState = getState();
+        // face the way it moves, keep the last facing while standing still
+        if (body.getLinearVelocity().x < 0) runningRight = false;
+        else if (body.getLinearVelocity().x > 0) runningRight = true;
+        // fire once the shoot animation has played out
+        if (currentState == State.SHOOT && isShoot && robotShoot.isAnimationFinished(stateTimer)) {
+            float x = runningRight ? 1f : -1f;
+            float y = -0.1f;
+            addSpawnBullet(body.getPosition().x + x, body.getPosition().y + y, runningRight);
+            isShoot = false;
+            timeDelayIdle = 1;
+        }
+        //if the current state is the same as the previous state increase the state timer.
+        //otherwise the state has changed and we need to reset timer.
+        stateTimer = currentState == previousState ? stateTimer + dt : 0;
+        //update previous state
+        previousState = currentState;
+    }
+
+    @Override
+    protected TextureRegion getFrame() {
         TextureRegion region;
         //depending on the state, get corresponding animation KeyFrame
         switch (currentState) {
             case RUN:
-                region = (TextureRegion) robotRun.getKeyFrame(stateTimer, true);
+                region = robotRun.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case DEAD:
-                region = (TextureRegion) robotDead.getKeyFrame(stateTimer);
+                region = robotDead.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case SHOOT:
-                region = (TextureRegion) robotShoot.getKeyFrame(stateTimer);
-                if (robotShoot.isAnimationFinished(stateTimer)) {
-                    if (isShoot) {
-                        float x = runningRight ? 1f : -1f;
-                        float y = -0.1f;
-                        // if you want to spawn a new bullet:
-                        addSpawnBullet(body.getPosition().x + x, body.getPosition().y + y, runningRight ? true : false);
-                        isShoot = false;
-                        timeDelayIdle = 1;
-                    }
-                }
+                region = robotShoot.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case JUMP_SHOOT:
-                region = (TextureRegion) robotJumpShoot.getKeyFrame(stateTimer);
+                region = robotJumpShoot.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case JUMP_MELEE:
-                region = (TextureRegion) robotJumpMelee.getKeyFrame(stateTimer);
+                region = robotJumpMelee.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case MELEE:
-                region = (TextureRegion) robotMelee.getKeyFrame(stateTimer, true);
+                region = robotMelee.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case RUN_SHOOT:
-                region = (TextureRegion) robotRunShoot.getKeyFrame(stateTimer);
+                region = robotRunShoot.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case SLIDE:
-                region = (TextureRegion) robotSlide.getKeyFrame(stateTimer);
+                region = robotSlide.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case JUMP:
-                region = (TextureRegion) robotJump.getKeyFrame(stateTimer);
+                region = robotJump.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case IDLE:
             default:
-                region = (TextureRegion) robotIdle.getKeyFrame(stateTimer,true);
+                region = robotIdle.flipped(!runningRight).getKeyFrame(stateTimer,true);
                 break;
         }
 
-        //if player is running left and the texture isnt facing left... flip it.
-        if ((body.getLinearVelocity().x < 0 || !runningRight) && !region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = false;
-        }
-        //if player is running right and the texture isnt facing right... flip it.
-        else if ((body.getLinearVelocity().x > 0 || runningRight) && region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = true;
-        }
-
-        //if the current state is the same as the previous state increase the state timer.
-        //otherwise the state has changed and we need to reset timer.
-        stateTimer = currentState == previousState ? stateTimer + dt : 0;
-        //update previous state
-        previousState = currentState;
-
         return region;
     }
 
@@ -231,15 +209,6 @@ public class Robot extends Enemy implements Pool.Poolable {
             return State.IDLE;
     }
 
-    @Override
-    public void draw(Batch batch) {
-        super.draw(batch);
-        // draw bullets
-        for (EnemyBullet bullet : bullets) {
-            bullet.draw(batch);
-        }
-    }
-
     private void makeBoxRobotBody(float posx, float posy) {
         float width = (113 - 60)/ PPM;
         float height = (111 - 15) / PPM;
@@ -281,13 +250,19 @@ public class Robot extends Enemy implements Pool.Poolable {
 
     @Override
     public int score() {
-        return 100;
+        return SCORE;
+    }
+
+    @Override
+    public float getCullHalfWidth() {
+        // widest of its frames, the idle and run frames
+        return 113 / PPM;
     }
 
     @Override
     public void killed() {
         super.killed();
-        setRegion((TextureRegion) robotDead.getKeyFrame(stateTimer));
+        setRegion(robotDead.flipped(!runningRight).getKeyFrame(stateTimer));
         isDead = true;
         isRun = false;
         becomeDead();
@@ -295,7 +270,7 @@ public class Robot extends Enemy implements Pool.Poolable {
 
     @Override
     public void beginAttack(Player player) {
-        setRegion((TextureRegion) robotMelee.getKeyFrame(stateTimer));
+        setRegion(robotMelee.flipped(!runningRight).getKeyFrame(stateTimer));
         player.playerDie();
         isMelee = true;
         isRun = false;
@@ -304,7 +279,7 @@ public class Robot extends Enemy implements Pool.Poolable {
 
     @Override
     public void endAttack(Player player) {
-        setRegion((TextureRegion) robotIdle.getKeyFrame(stateTimer));
+        setRegion(robotIdle.flipped(!runningRight).getKeyFrame(stateTimer));
         isRun = true;
         isMelee = false;
     }
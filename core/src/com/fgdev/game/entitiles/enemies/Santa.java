@@ -1,6 +1,5 @@
 package com.fgdev.game.entitiles.enemies;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
@@ -13,6 +12,7 @@ import com.fgdev.game.entitiles.Player;
 import com.fgdev.game.helpers.ScoreIndicator;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.BodyFactory;
+import com.fgdev.game.utils.FacingAnimation;
 import com.fgdev.game.utils.ValueManager;
 
 import static com.fgdev.game.Constants.PPM;
@@ -20,6 +20,7 @@ import static com.fgdev.game.Constants.PPM;
 public class Santa extends Enemy implements Pool.Poolable {
 
     public static final String TAG = Santa.class.getName();
+    public static final int SCORE = 200;
 
     public enum State {
         IDLE, RUN, DEAD, JUMP, SLIDE, WALK
@@ -28,12 +29,12 @@ public class Santa extends Enemy implements Pool.Poolable {
     private State currentState;
     private State previousState;
 
-    private Animation santaIdle;
-    private Animation santaRun;
-    private Animation santaDead;
-    private Animation santaSlide;
-    private Animation santaWalk;
-    private Animation santaJump;
+    private FacingAnimation santaIdle;
+    private FacingAnimation santaRun;
+    private FacingAnimation santaDead;
+    private FacingAnimation santaSlide;
+    private FacingAnimation santaWalk;
+    private FacingAnimation santaJump;
 
     private boolean isRun;
     private boolean isAttack;
@@ -62,7 +63,7 @@ public class Santa extends Enemy implements Pool.Poolable {
         speed = 1f;
         // Extend Abstract
         init();
-        setRegion((TextureRegion) santaIdle.getKeyFrame(stateTimer));
+        setRegion(santaIdle.flipped(!runningRight).getKeyFrame(stateTimer));
     }
 
     @Override
@@ -89,47 +90,44 @@ public class Santa extends Enemy implements Pool.Poolable {
     }
 
     @Override
-    protected TextureRegion getFrame(float dt) {
+    protected void updateState(float dt) {
         currentState = getState();
+        // face the way it moves, keep the last facing while standing still
+        if (body.getLinearVelocity().x < 0) runningRight = false;
+        else if (body.getLinearVelocity().x > 0) runningRight = true;
+        //if the current state is the same as the previous state increase the state timer.
+        //otherwise the state has changed and we need to reset timer.
+        stateTimer = currentState == previousState ? stateTimer + dt : 0;
+        //update previous state
+        previousState = currentState;
+    }
+
+    @Override
+    protected TextureRegion getFrame() {
         TextureRegion region;
         //depending on the state, get corresponding animation KeyFrame
         switch (currentState) {
             case RUN:
-                region = (TextureRegion) santaRun.getKeyFrame(stateTimer, true);
+                region = santaRun.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case DEAD:
-                region = (TextureRegion) santaDead.getKeyFrame(stateTimer);
+                region = santaDead.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case SLIDE:
-                region = (TextureRegion) santaSlide.getKeyFrame(stateTimer);
+                region = santaSlide.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case WALK:
-                region = (TextureRegion) santaWalk.getKeyFrame(stateTimer, true);
+                region = santaWalk.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case JUMP:
-                region = (TextureRegion) santaJump.getKeyFrame(stateTimer, true);
+                region = santaJump.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case IDLE:
             default:
-                region = (TextureRegion) santaIdle.getKeyFrame(stateTimer,true);
+                region = santaIdle.flipped(!runningRight).getKeyFrame(stateTimer,true);
                 break;
         }
-        //if player is running left and the texture isnt facing left... flip it.
-        if ((body.getLinearVelocity().x < 0 || !runningRight) && !region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = false;
-        }
-        //if player is running right and the texture isnt facing right... flip it.
-        else if ((body.getLinearVelocity().x > 0 || runningRight) && region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = true;
-        }
 
-        //if the current state is the same as the previous state increase the state timer.
-        //otherwise the state has changed and we need to reset timer.
-        stateTimer = currentState == previousState ? stateTimer + dt : 0;
-        //update previous state
-        previousState = currentState;
         return region;
     }
 
@@ -187,13 +185,18 @@ public class Santa extends Enemy implements Pool.Poolable {
 
     @Override
     public int score() {
-        return 200;
+        return SCORE;
+    }
+
+    @Override
+    public float getCullHalfWidth() {
+        return 103 / PPM;
     }
 
     @Override
     public void killed() {
         super.killed();
-        setRegion((TextureRegion) santaDead.getKeyFrame(stateTimer));
+        setRegion(santaDead.flipped(!runningRight).getKeyFrame(stateTimer));
         isDead = true;
         isRun = false;
         becomeDead();
@@ -201,7 +204,7 @@ public class Santa extends Enemy implements Pool.Poolable {
 
     @Override
     public void beginAttack(Player player) {
-        setRegion((TextureRegion) santaJump.getKeyFrame(stateTimer));
+        setRegion(santaJump.flipped(!runningRight).getKeyFrame(stateTimer));
         player.playerDie();
         isAttack = true;
         isRun = false;
@@ -210,7 +213,7 @@ public class Santa extends Enemy implements Pool.Poolable {
 
     @Override
     public void endAttack(Player player) {
-        setRegion((TextureRegion) santaIdle.getKeyFrame(stateTimer));
+        setRegion(santaIdle.flipped(!runningRight).getKeyFrame(stateTimer));
         isRun = true;
         isAttack = false;
     }
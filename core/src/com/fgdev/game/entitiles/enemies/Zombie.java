@@ -1,6 +1,5 @@
 package com.fgdev.game.entitiles.enemies;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
@@ -12,6 +11,7 @@ import com.fgdev.game.entitiles.Player;
 import com.fgdev.game.helpers.ScoreIndicator;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.BodyFactory;
+import com.fgdev.game.utils.FacingAnimation;
 import com.fgdev.game.utils.ValueManager;
 
 import static com.fgdev.game.Constants.PPM;
@@ -19,6 +19,7 @@ import static com.fgdev.game.Constants.PPM;
 public class Zombie extends Enemy implements Pool.Poolable {
 
     public static final String TAG = Zombie.class.getName();
+    public static final int SCORE = 50;
 
     public static final int MALE = 0;
     public static final int FEMALE = 1;
@@ -29,10 +30,10 @@ public class Zombie extends Enemy implements Pool.Poolable {
 
     private State currentState;
     private State previousState;
-    private Animation zombieIdle;
-    private Animation zombieWalk;
-    private Animation zombieDead;
-    private Animation zombieAttack;
+    private FacingAnimation zombieIdle;
+    private FacingAnimation zombieWalk;
+    private FacingAnimation zombieDead;
+    private FacingAnimation zombieAttack;
 
     private boolean isWalk;
     private boolean isAttack;
@@ -57,7 +58,7 @@ public class Zombie extends Enemy implements Pool.Poolable {
         zombieAttack = type == MALE ? zombie.animMaleAttack : zombie.animFeMaleAttack;
         // Extend Abstract
         init();
-        setRegion((TextureRegion) zombieIdle.getKeyFrame(stateTimer));
+        setRegion(zombieIdle.flipped(!runningRight).getKeyFrame(stateTimer));
     }
 
     @Override
@@ -108,41 +109,38 @@ public class Zombie extends Enemy implements Pool.Poolable {
     }
 
     @Override
-    protected TextureRegion getFrame(float dt) {
+    protected void updateState(float dt) {
         currentState = getState();
+        // face the way it moves, keep the last facing while standing still
+        if (body.getLinearVelocity().x < 0) runningRight = false;
+        else if (body.getLinearVelocity().x > 0) runningRight = true;
+        //if the current state is the same as the previous state increase the state timer.
+        //otherwise the state has changed and we need to reset timer.
+        stateTimer = currentState == previousState ? stateTimer + dt : 0;
+        //update previous state
+        previousState = currentState;
+    }
+
+    @Override
+    protected TextureRegion getFrame() {
         TextureRegion region;
         //depending on the state, get corresponding animation KeyFrame
         switch (currentState) {
             case WALK:
-                region = (TextureRegion) zombieWalk.getKeyFrame(stateTimer, true);
+                region = zombieWalk.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case DEAD:
-                region = (TextureRegion) zombieDead.getKeyFrame(stateTimer);
+                region = zombieDead.flipped(!runningRight).getKeyFrame(stateTimer);
                 break;
             case ATTACK:
-                region = (TextureRegion) zombieAttack.getKeyFrame(stateTimer, true);
+                region = zombieAttack.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
             case IDLE:
             default:
-                region = (TextureRegion) zombieIdle.getKeyFrame(stateTimer, true);
+                region = zombieIdle.flipped(!runningRight).getKeyFrame(stateTimer, true);
                 break;
         }
-        //if player is running left and the texture isnt facing left... flip it.
-        if ((body.getLinearVelocity().x < 0 || !runningRight) && !region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = false;
-        }
-        //if player is running right and the texture isnt facing right... flip it.
-        else if ((body.getLinearVelocity().x > 0 || runningRight) && region.isFlipX()) {
-            region.flip(true, false);
-            runningRight = true;
-        }
 
-        //if the current state is the same as the previous state increase the state timer.
-        //otherwise the state has changed and we need to reset timer.
-        stateTimer = currentState == previousState ? stateTimer + dt : 0;
-        //update previous state
-        previousState = currentState;
         return region;
     }
 
@@ -200,13 +198,19 @@ public class Zombie extends Enemy implements Pool.Poolable {
 
     @Override
     public int score() {
-        return 50;
+        return SCORE;
+    }
+
+    @Override
+    public float getCullHalfWidth() {
+        // widest of its frames, the female dead frames
+        return 103 / PPM;
     }
 
     @Override
     public void killed() {
         super.killed();
-        setRegion((TextureRegion) zombieDead.getKeyFrame(stateTimer));
+        setRegion(zombieDead.flipped(!runningRight).getKeyFrame(stateTimer));
         isDead = true;
         isWalk = false;
         becomeDead();
@@ -214,7 +218,7 @@ public class Zombie extends Enemy implements Pool.Poolable {
 
     @Override
     public void beginAttack(Player player) {
-        setRegion((TextureRegion) zombieAttack.getKeyFrame(stateTimer));
+        setRegion(zombieAttack.flipped(!runningRight).getKeyFrame(stateTimer));
         player.playerDie();
         isAttack = true;
         isWalk = false;
@@ -223,7 +227,7 @@ public class Zombie extends Enemy implements Pool.Poolable {
 
     @Override
     public void endAttack(Player player) {
-        setRegion((TextureRegion) zombieIdle.getKeyFrame(stateTimer));
+        setRegion(zombieIdle.flipped(!runningRight).getKeyFrame(stateTimer));
         isWalk = true;
         isAttack = false;
     }
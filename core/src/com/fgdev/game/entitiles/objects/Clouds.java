@@ -1,134 +1,120 @@
 package com.fgdev.game.entitiles.objects;
 
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
-import com.fgdev.game.entitiles.bullets.Kunai;
 import com.fgdev.game.utils.Assets;
 
-public class Clouds extends GameObject {
+import static com.fgdev.game.Constants.V_WIDTH;
 
-    private float length;
+/**
+ * Clouds in a few parallax layers, far ones smaller and scrolling slower with
+ * the camera. Each layer holds just enough clouds to span the view and a
+ * margin, a cloud leaving one side comes back in on the other with a new
+ * look, so the sky never runs out and only what is on screen gets drawn.
+ */
+public class Clouds extends GameObject {
 
-    private Array<TextureRegion> regClouds;
+    // far to near, drawn in that order
+    private static final float[] SCROLL = {0.25f, 0.5f, 1.0f};
+    private static final float[] SCALE = {0.5f, 0.75f, 1.0f};
+    private static final float[] SPACING = {8f, 7f, 5f};
+    private static final float[] BASE_Y = {10.0f, 9.5f, 8.75f};
+    private static final float[] RANGE_Y = {1.5f, 2.0f, 3.0f};
 
-    // array containing the active kunaies.
-    private Array<Cloud> activeClouds = new Array<Cloud>();
+    private static final float WIDTH = 3.0f;
+    private static final float HEIGHT = 1.5f;
+    // room for a whole cloud on either side of the view
+    private static final float MARGIN = WIDTH;
 
-    // cloud pool.
-    private final Pool<Cloud> cloudPool = new Pool<Cloud>() {
-        @Override
-        protected Cloud newObject() {
-            return new Cloud();
-        }
-    };
+    private final OrthographicCamera camera;
+    // Own generator so a seed gives the same sky again
+    private final RandomXS128 random;
 
-    public Clouds(float length) {
-        this.length = length;
+    private Array<TextureRegion> regClouds;
+    private final Array<Cloud> clouds = new Array<Cloud>();
+    // wrap length of every layer, the view and both margins
+    private final float span;
+
+    public Clouds(OrthographicCamera camera, long seed) {
+        this.camera = camera;
+        random = new RandomXS128(seed);
+        span = V_WIDTH + 2 * MARGIN;
         init();
     }
 
     private void init() {
-        dimension.set(3.0f, 1.5f);
         regClouds = new Array<TextureRegion>();
         regClouds.add(Assets.instance.assetObjectDecoration.cloud01);
         regClouds.add(Assets.instance.assetObjectDecoration.cloud02);
         regClouds.add(Assets.instance.assetObjectDecoration.cloud03);
 
-        int distFac = 5;
-        int numClouds = (int)(length / distFac);
-        activeClouds = new Array<Cloud>(2 * numClouds);
-        for (int i = 0; i < numClouds; i++) {
-            // if you want to spawn a new bullet:
-            Cloud item = cloudPool.obtain();
-            item.init(dimension, regClouds.random(), length);
-            item.position.x = i * distFac;
-            activeClouds.add(item);
+        for (int layer = 0; layer < SCROLL.length; layer++) {
+            int count = (int) Math.ceil(span / SPACING[layer]);
+            for (int i = 0; i < count; i++) {
+                Cloud cloud = new Cloud(layer);
+                cloud.u = i * span / count;
+                cloud.rel = -1;
+                randomize(cloud);
+                clouds.add(cloud);
+            }
         }
     }
 
+    // a new image, height and speed, scaled by the depth of the layer
+    private void randomize(Cloud cloud) {
+        int layer = cloud.layer;
+        cloud.region = regClouds.get(random.nextInt(regClouds.size));
+        cloud.y = BASE_Y[layer] + RANGE_Y[layer] * (random.nextFloat() * 2 - 1);
+        cloud.speed = -(0.5f + 0.75f * random.nextFloat()) * SCALE[layer];
+    }
+
     @Override
     public void update(float deltaTime) {
-        Cloud item;
-        int len = activeClouds.size;
-        for (int i = len; --i >= 0;) {
-            item = activeClouds.get(i);
-            item.update(deltaTime);
-            if (item.position.x < -10) {
-                activeClouds.removeIndex(i);
-                cloudPool.free(item);
-            }
+        for (int i = 0; i < clouds.size; i++) {
+            Cloud cloud = clouds.get(i);
+            cloud.u = wrap(cloud.u + cloud.speed * deltaTime);
         }
     }
 
     @Override
     public void render(SpriteBatch batch) {
-        Cloud item;
-        int len = activeClouds.size;
-        for (int i = len; --i >= 0;) {
-            item = activeClouds.get(i);
-            if (item.position.x > -10) {
-                item.render(batch);
-            }
+        float halfView = V_WIDTH / 2;
+        float left = camera.position.x - halfView;
+        float right = camera.position.x + halfView;
+        for (int i = 0; i < clouds.size; i++) {
+            Cloud cloud = clouds.get(i);
+            // place in the window that follows the camera at this layer's rate
+            float rel = wrap(cloud.u - camera.position.x * SCROLL[cloud.layer]);
+            // jumped across the window, comes back in as a different cloud
+            if (cloud.rel >= 0 && Math.abs(rel - cloud.rel) > span / 2) randomize(cloud);
+            cloud.rel = rel;
+            float x = left - MARGIN + rel;
+            float width = WIDTH * SCALE[cloud.layer];
+            if (x + width < left || x > right) continue;
+            batch.draw(cloud.region, x, cloud.y, width, HEIGHT * SCALE[cloud.layer]);
         }
     }
 
-    private class Cloud extends GameObject implements Pool.Poolable {
-
-        private TextureRegion regCloud;
-
-        private Cloud() {
-
-        }
-
-        public void init(Vector2 dimension, TextureRegion regCloud, float length) {
-            this.dimension.set(dimension);
-            // select random cloud image
-            this.setRegion(regCloud);
-            // position
-            Vector2 pos = new Vector2();
-            pos.x = length + 10; // position after end of level
-            pos.y += 8.75; // base position
-            pos.y += MathUtils.random(0.0f, - 3.0f)
-                    * (MathUtils.randomBoolean() ? 1 : -1); // random additional position
-            this.position.set(pos);
-            // speed
-            Vector2 speed = new Vector2();
-            speed.x += 0.5f; // base speed
-            // random additional speed
-            speed.x += MathUtils.random(0.0f, 0.75f);
-            this.terminalVelocity.set(speed);
-            speed.x *= -1; // move left
-            this.velocity.set(speed);
-        }
-
-        private void setRegion (TextureRegion region) {
-            regCloud = region;
-        }
-
-        @Override
-        public void render(SpriteBatch batch) {
-            TextureRegion reg = regCloud;
-            batch.draw(reg.getTexture(), position.x + origin.x,
-                    position.y + origin.y, origin.x, origin.y, dimension.x,
-                    dimension.y, scale.x, scale.y, rotation, reg.getRegionX(),
-                    reg.getRegionY(), reg.getRegionWidth(), reg.getRegionHeight(),
-                    false, false);
-        }
+    private float wrap(float value) {
+        value %= span;
+        return value < 0 ? value + span : value;
+    }
 
-        @Override
-        public void reset() {
-            this.dimension.set(0, 0);
-            // select random cloud image
-            this.setRegion(null);
-            // position
-            this.position.set(0, 0);
-            // speed
-            this.terminalVelocity.set(0, 0);
-            this.velocity.set(0, 0);
+    private static class Cloud {
+        final int layer;
+        TextureRegion region;
+        // position along the layer, wrapped to the span
+        float u;
+        // where it was last drawn within the window, -1 before the first draw
+        float rel;
+        float y;
+        float speed;
+
+        Cloud(int layer) {
+            this.layer = layer;
         }
     }
 }
@@ -3,6 +3,7 @@ package com.fgdev.game.entitiles.tiles.box;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.JointEdge;
 import com.badlogic.gdx.physics.box2d.World;
@@ -19,6 +20,8 @@ public abstract class BoxObject extends Sprite {
     protected boolean toDestroy;
     protected boolean destroyed;
     protected ScoreIndicator scoreIndicator;
+    protected final Vector2 previousPosition = new Vector2();
+    protected boolean inView = true;
 
     public BoxObject(World world, ScoreIndicator scoreIndicator) {
         this.world = world;
@@ -31,6 +34,7 @@ public abstract class BoxObject extends Sprite {
         toDestroy = false;
         destroyed = false;
         setPosition(body.getPosition().x, body.getPosition().y);
+        previousPosition.set(body.getPosition());
         body.setActive(false);
     }
 
@@ -66,10 +70,24 @@ public abstract class BoxObject extends Sprite {
 
     protected abstract void defineObject();
 
+    public void savePosition() {
+        if (body != null) previousPosition.set(body.getPosition());
+    }
+
+    public void interpolate(float alpha) {
+        if (body == null) return;
+        Vector2 position = body.getPosition();
+        setPosition(previousPosition.x + (position.x - previousPosition.x) * alpha - getWidth() / 2,
+                previousPosition.y + (position.y - previousPosition.y) * alpha - getHeight() / 2);
+    }
+
     public abstract void destroyBox();
 
     public abstract int score();
 
+    /** Half the widest frame, for culling from the body position. */
+    public abstract float getCullHalfWidth();
+
     public Body getBody() {
         return body;
     }
@@ -78,6 +96,14 @@ public abstract class BoxObject extends Sprite {
         return destroyed;
     }
 
+    public void setInView(boolean inView) {
+        this.inView = inView;
+    }
+
+    public boolean isInView() {
+        return inView;
+    }
+
     public void setToDestroy() {
         this.toDestroy = true;
     }
@@ -19,6 +19,7 @@ import static com.fgdev.game.Constants.*;
 public class Crate extends BoxObject implements Pool.Poolable {
 
     private static String TAG = Feather.class.getName();
+    public static final int SCORE = 10;
 
     private TextureRegion crate;
 
@@ -56,7 +57,7 @@ public class Crate extends BoxObject implements Pool.Poolable {
     @Override
     public void update(float dt) {
         super.update(dt);
-        if (body != null) {
+        if (body != null && inView) {
             setRegion(crate);
             setPosition(body.getPosition().x - getWidth() / 2, body.getPosition().y - getHeight() / 2);
         }
@@ -72,6 +73,11 @@ public class Crate extends BoxObject implements Pool.Poolable {
 
     @Override
     public int score() {
-        return 10;
+        return SCORE;
+    }
+
+    @Override
+    public float getCullHalfWidth() {
+        return 47 / PPM;
     }
 }
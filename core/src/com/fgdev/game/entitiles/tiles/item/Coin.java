@@ -19,6 +19,7 @@ import static com.fgdev.game.Constants.*;
 public class Coin extends ItemObject implements Pool.Poolable {
 
     private static String TAG = Coin.class.getName();
+    public static final int SCORE = 80;
 
     private Animation coinAnimation;
 
@@ -63,7 +64,7 @@ public class Coin extends ItemObject implements Pool.Poolable {
     public void update(float dt) {
         super.update(dt);
         stateTimer += dt;
-        if (body != null) {
+        if (body != null && inView) {
             setRegion((TextureRegion) coinAnimation.getKeyFrame(stateTimer));
             setPosition(body.getPosition().x - getWidth() / 2, body.getPosition().y - getHeight() / 2);
         }
@@ -79,6 +80,11 @@ public class Coin extends ItemObject implements Pool.Poolable {
 
     @Override
     public int score() {
-        return 80;
+        return SCORE;
+    }
+
+    @Override
+    public float getCullHalfWidth() {
+        return 28 / PPM;
     }
 }
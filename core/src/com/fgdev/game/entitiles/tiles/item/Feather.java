@@ -18,6 +18,7 @@ import static com.fgdev.game.Constants.*;
 public class Feather extends ItemObject implements Pool.Poolable {
 
     private static String TAG = Feather.class.getName();
+    public static final int SCORE = 100;
 
     private TextureRegion feather;
 
@@ -60,7 +61,7 @@ public class Feather extends ItemObject implements Pool.Poolable {
     @Override
     public void update(float dt) {
         super.update(dt);
-        if (body != null) {
+        if (body != null && inView) {
             setRegion(feather);
             setPosition(body.getPosition().x - getWidth() / 2, body.getPosition().y - getHeight() / 2);
         }
@@ -77,6 +78,11 @@ public class Feather extends ItemObject implements Pool.Poolable {
 
     @Override
     public int score() {
-        return 100;
+        return SCORE;
+    }
+
+    @Override
+    public float getCullHalfWidth() {
+        return 40 / PPM;
     }
 }
@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.JointEdge;
 import com.badlogic.gdx.physics.box2d.World;
@@ -20,6 +21,8 @@ public abstract class ItemObject extends Sprite {
     protected boolean toDestroy;
     protected boolean destroyed;
     protected ScoreIndicator scoreIndicator;
+    protected final Vector2 previousPosition = new Vector2();
+    protected boolean inView = true;
     protected float stateTimer;
 
 
@@ -35,6 +38,7 @@ public abstract class ItemObject extends Sprite {
         toDestroy = false;
         destroyed = false;
         setPosition(body.getPosition().x, body.getPosition().y);
+        previousPosition.set(body.getPosition());
         body.setActive(false);
     }
 
@@ -70,10 +74,24 @@ public abstract class ItemObject extends Sprite {
 
     protected abstract void defineObject();
 
+    public void savePosition() {
+        if (body != null) previousPosition.set(body.getPosition());
+    }
+
+    public void interpolate(float alpha) {
+        if (body == null) return;
+        Vector2 position = body.getPosition();
+        setPosition(previousPosition.x + (position.x - previousPosition.x) * alpha - getWidth() / 2,
+                previousPosition.y + (position.y - previousPosition.y) * alpha - getHeight() / 2);
+    }
+
     public abstract void collected(Player player);
 
     public abstract int score();
 
+    /** Half the widest frame, for culling from the body position. */
+    public abstract float getCullHalfWidth();
+
     public Body getBody() {
         return body;
     }
@@ -81,4 +99,12 @@ public abstract class ItemObject extends Sprite {
     public boolean isDestroyed() {
         return destroyed;
     }
+
+    public void setInView(boolean inView) {
+        this.inView = inView;
+    }
+
+    public boolean isInView() {
+        return inView;
+    }
 }
@@ -3,6 +3,7 @@ package com.fgdev.game.entitiles.tiles.platform;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.World;
+import com.fgdev.game.helpers.StaticGeometry;
 import com.fgdev.game.utils.BodyFactory;
 
 public abstract class PlatformObject {
@@ -20,6 +21,13 @@ public abstract class PlatformObject {
         definePlatform();
     }
 
+    /** Builds the platform from merged map geometry rather than one map object. */
+    public void init(StaticGeometry geometry, int material) {
+        object = null;
+        body = bodyFactory.makeStaticBody();
+        geometry.createFixtures(bodyFactory, body, material, this);
+    }
+
     protected abstract void definePlatform();
 
     public Body getBody() {
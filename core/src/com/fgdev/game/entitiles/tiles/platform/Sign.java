@@ -7,7 +7,6 @@ import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Pool;
 import com.fgdev.game.Constants;
-import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.BodyFactory;
 import com.fgdev.game.utils.ValueManager;
 
@@ -59,27 +58,22 @@ public class Sign extends PlatformObject implements Pool.Poolable {
                 // Next level 2
                 ValueManager.instance.levelCurrent = 2;
                 ValueManager.instance.mapPath = Constants.LEVEL_02;
-                ValueManager.instance.background = Assets.instance.textures.background2;
             } else if (level == 2) {
                 // Next level 3
                 ValueManager.instance.levelCurrent = 3;
                 ValueManager.instance.mapPath = Constants.LEVEL_03;
-                ValueManager.instance.background = Assets.instance.textures.background3;
             } else if (level == 3) {
                 // Next level 4
                 ValueManager.instance.levelCurrent = 4;
                 ValueManager.instance.mapPath = Constants.LEVEL_04;
-                ValueManager.instance.background = Assets.instance.textures.background4;
             } else if (level == 4) {
                 // Next level 5
                 ValueManager.instance.levelCurrent = 5;
                 ValueManager.instance.mapPath = Constants.LEVEL_05;
-                ValueManager.instance.background = Assets.instance.textures.background5;
             } else if (level == 5) {
                 // Next level 6
                 ValueManager.instance.levelCurrent = 6;
                 ValueManager.instance.mapPath = Constants.LEVEL_05;
-                ValueManager.instance.background = Assets.instance.textures.background5;
             }
             ValueManager.instance.posX = Constants.POS_X;
             ValueManager.instance.posY = Constants.POS_Y;
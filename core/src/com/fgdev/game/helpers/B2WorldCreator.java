@@ -1,9 +1,10 @@
 package com.fgdev.game.helpers;
 
-import com.badlogic.gdx.maps.Map;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.EllipseMapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.Ellipse;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.Array;
@@ -16,14 +17,49 @@ import com.fgdev.game.entitiles.tiles.item.Coin;
 import com.fgdev.game.entitiles.tiles.item.Feather;
 import com.fgdev.game.entitiles.tiles.item.ItemObject;
 import com.fgdev.game.entitiles.tiles.platform.*;
+import com.fgdev.game.utils.BodyFactory;
+import com.fgdev.game.utils.Trace;
 import com.fgdev.game.utils.ValueManager;
 
 import static com.fgdev.game.Constants.PPM;
+import static com.fgdev.game.Constants.V_WIDTH;
 
 public class B2WorldCreator {
+    private static final String TAG = B2WorldCreator.class.getName();
+
+    // Map object layers in the order they are spawned, statics first
+    static final String[] LAYERS = {
+            "grounds", "hidden_walls", "signs", "spikes", "ladders",
+            "crates", "coins", "feathers",
+            "zombies", "robots", "adventure_girls", "dinos", "knights", "santas", "ghosts", "bones"
+    };
+    static final int GROUNDS = 0;
+    static final int HIDDEN_WALLS = 1;
+    static final int SIGNS = 2;
+    static final int SPIKES = 3;
+    static final int LADDERS = 4;
+    static final int CRATES = 5;
+    static final int COINS = 6;
+    static final int FEATHERS = 7;
+    static final int ZOMBIES = 8;
+    static final int ROBOTS = 9;
+    static final int ADVENTURE_GIRLS = 10;
+    static final int DINOS = 11;
+    static final int KNIGHTS = 12;
+    static final int SANTAS = 13;
+    static final int GHOSTS = 14;
+    static final int BONES = 15;
+
+    // How far past the screen edges bodies keep simulating
+    private static final float WINDOW_MARGIN = 10f;
+    // Width of the x-buckets used to cull entities
+    private static final float CULL_BUCKET_WIDTH = 4f;
+    // Half the widest entity sprite, the knight's attack
+    private static final float CULL_REACH = 1.5f;
+
     private World world;
     private ScoreIndicator scoreIndicator;
-    private Map map;
+    private LevelData level;
     // Platform
     private final Array<Ground> activeGrounds = new Array<Ground>();
     private final Pool<Ground> groundPool = new Pool<Ground>() {
@@ -61,14 +97,12 @@ public class B2WorldCreator {
         }
     };
     // Items
-    private final Array<Coin> activeCoins = new Array<Coin>();
     private final Pool<Coin> coinPool = new Pool<Coin>() {
         @Override
         protected Coin newObject() {
             return new Coin(getWorld(), getScoreIndicator());
         }
     };
-    private final Array<Feather> activeFeathers = new Array<Feather>();
     private final Pool<Feather> featherPool = new Pool<Feather>() {
         @Override
         protected Feather newObject() {
@@ -76,7 +110,6 @@ public class B2WorldCreator {
         }
     };
     // Box
-    private final Array<Crate> activeCrates = new Array<Crate>();
     private final Pool<Crate> cratePool = new Pool<Crate>() {
         @Override
         protected Crate newObject() {
@@ -84,63 +117,48 @@ public class B2WorldCreator {
         }
     };
     // Enemies
-    private final Array<Zombie> activeZombies = new Array<Zombie>();
     private final Pool<Zombie> zombiePool = new Pool<Zombie>() {
         @Override
         protected Zombie newObject() {
             return new Zombie(getWorld(), getScoreIndicator());
         }
     };
-
-    private final Array<Santa> activeSantas = new Array<Santa>();
     private final Pool<Santa> santaPool = new Pool<Santa>() {
         @Override
         protected Santa newObject() {
             return new Santa(getWorld(), getScoreIndicator());
         }
     };
-
-    private final Array<Robot> activeRobots = new Array<Robot>();
     private final Pool<Robot> robotPool = new Pool<Robot>() {
         @Override
         protected Robot newObject() {
             return new Robot(getWorld(), getScoreIndicator());
         }
     };
-
-    private final Array<Knight> activeKnights = new Array<Knight>();
     private final Pool<Knight> knightPool = new Pool<Knight>() {
         @Override
         protected Knight newObject() {
             return new Knight(getWorld(), getScoreIndicator());
         }
     };
-
-    private final Array<Dino> activeDinos = new Array<Dino>();
     private final Pool<Dino> dinoPool = new Pool<Dino>() {
         @Override
         protected Dino newObject() {
             return new Dino(getWorld(), getScoreIndicator());
         }
     };
-
-    private final Array<AdventureGirl> activeAdventureGirls = new Array<AdventureGirl>();
     private final Pool<AdventureGirl> adventureGirlPool = new Pool<AdventureGirl>() {
         @Override
         protected AdventureGirl newObject() {
             return new AdventureGirl(getWorld(), getScoreIndicator());
         }
     };
-
-    private final Array<Ghost> activeGhosts = new Array<Ghost>();
     private final Pool<Ghost> ghostPool = new Pool<Ghost>() {
         @Override
         protected Ghost newObject() {
             return new Ghost(getWorld(), getScoreIndicator());
         }
     };
-
-    private final Array<Bone> activeBones = new Array<Bone>();
     private final Pool<Bone> bonePool = new Pool<Bone>() {
         @Override
         protected Bone newObject() {
@@ -148,165 +166,263 @@ public class B2WorldCreator {
         }
     };
 
-    public B2WorldCreator(World world, Map map, ScoreIndicator scoreIndicator) {
+    // Live entities, each freed back into the pool it came from
+    private final EntityRegistry<ItemObject> itemObjects = new EntityRegistry<ItemObject>();
+    private final EntityRegistry<BoxObject> boxObjects = new EntityRegistry<BoxObject>();
+    private final EntityRegistry<Enemy> enemies = new EntityRegistry<Enemy>();
+    // The same entities by where they are, for culling
+    private final SpatialIndex<ItemObject> itemIndex;
+    private final SpatialIndex<BoxObject> boxIndex;
+    private final SpatialIndex<Enemy> enemyIndex;
+
+    // Map objects by chunk and the statics spawned from them
+    private final Array<Array<Spawn>> chunks;
+    private final Array<Spawn> statics = new Array<Spawn>(false, 128);
+    private final Rectangle bounds = new Rectangle();
+    private float windowLeft;
+    private float windowRight;
+    private int firstChunk = -1;
+    private int lastChunk = -1;
+    private int staticRectCount;
+    private int staticProxyCount;
+
+    public B2WorldCreator(World world, LevelData level, ScoreIndicator scoreIndicator) {
         this.world = world;
-        this.map = map;
+        this.level = level;
         this.scoreIndicator = scoreIndicator;
-        //create grounds bodies/fixtures
-        for (MapObject object: map.getLayers().get("grounds").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            Ground item = groundPool.obtain();
-            item.init(object);
-            activeGrounds.add(item);
-        }
-
-        //create hidden wall bodies/fixtures
-        for (MapObject object: map.getLayers().get("hidden_walls").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            HiddenWall item = hiddenWallPool.obtain();
-            item.init(object);
-            activeHiddenWalls.add(item);
-        }
-
-        //create signs bodies/fixtures
-        for (MapObject object: map.getLayers().get("signs").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            Sign item = signPool.obtain();
-            int type = object.getProperties().get("type", Integer.class) != null ? object.getProperties().get("type", Integer.class) : Sign.DEFAULT_SIGN;
-            int level = object.getProperties().get("level", Integer.class) != null ? object.getProperties().get("level", Integer.class) : 1;
-            item.init(object, type, level);
-            activeSigns.add(item);
-        }
-
-        //create spikes bodies/fixtures
-        for (MapObject object: map.getLayers().get("spikes").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            Spike item = spikePool.obtain();
-            item.init(object);
-            activeSpikes.add(item);
-        }
-
-        //create ladders bodies/fixtures
-        for (MapObject object: map.getLayers().get("ladders").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            Ladder item = ladderPool.obtain();
-            item.init(object);
-            activeLadders.add(item);
-        }
-
-        //create crates bodies/fixtures
-        for (MapObject object: map.getLayers().get("crates").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            Crate item = cratePool.obtain();
-            item.init(object);
-            activeCrates.add(item);
-        }
-
-        //create coins bodies/fixtures
-        for (MapObject object: map.getLayers().get("coins").getObjects().getByType(EllipseMapObject.class)) {
-            // if you want to spawn a new:
-            Coin item = coinPool.obtain();
-            item.init(object);
-            activeCoins.add(item);
-        }
-
-        //create feathers bodies/fixtures
-        for (MapObject object: map.getLayers().get("feathers").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            Feather item = featherPool.obtain();
-            item.init(object);
-            activeFeathers.add(item);
-        }
-
-        //create zombies bodies/fixtures
-        for (MapObject object: map.getLayers().get("zombies").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            Zombie item = zombiePool.obtain();
-            item.init(object, object.getProperties().get("type", Integer.class));
-            activeZombies.add(item);
-        }
-
-        //create robots bodies/fixtures
-        for (MapObject object: map.getLayers().get("robots").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            Robot item = robotPool.obtain();
-            item.init(object, object.getProperties().get("type", Integer.class));
-            activeRobots.add(item);
-        }
-
-        //create adventure_girls bodies/fixtures
-        for (MapObject object: map.getLayers().get("adventure_girls").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            AdventureGirl item = adventureGirlPool.obtain();
-            item.init(object, object.getProperties().get("type", Integer.class));
-            activeAdventureGirls.add(item);
-        }
-
-        //create dinos bodies/fixtures
-        for (MapObject object: map.getLayers().get("dinos").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            Dino item = dinoPool.obtain();
-            item.init(object, object.getProperties().get("type", Integer.class));
-            activeDinos.add(item);
-        }
-
-        //create knights bodies/fixtures
-        for (MapObject object: map.getLayers().get("knights").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            Knight item = knightPool.obtain();
-            item.init(object, object.getProperties().get("type", Integer.class));
-            activeKnights.add(item);
-        }
-
-        //create santas bodies/fixtures
-        for (MapObject object: map.getLayers().get("santas").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            Santa item = santaPool.obtain();
-            item.init(object, object.getProperties().get("type", Integer.class));
-            activeSantas.add(item);
-        }
+        Trace.instance.begin(Trace.WORLD_CREATOR);
+        float worldWidth = level.getWidth() * level.getTileWidth() / PPM;
+        itemIndex = new SpatialIndex<ItemObject>(worldWidth, CULL_BUCKET_WIDTH, CULL_REACH);
+        boxIndex = new SpatialIndex<BoxObject>(worldWidth, CULL_BUCKET_WIDTH, CULL_REACH);
+        enemyIndex = new SpatialIndex<Enemy>(worldWidth, CULL_BUCKET_WIDTH, CULL_REACH);
+        // Sort every map object into the chunks it covers, bodies are made later
+        int chunkCount = level.getChunkCount();
+        chunks = new Array<Array<Spawn>>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            chunks.add(new Array<Spawn>(false, 16));
+        }
+        for (int kind = 0; kind < LAYERS.length; kind++) {
+            if (isMerged(kind)) {
+                // Merged when the level was read, one body for each span of chunks
+                Array<StaticGeometry> geometries = level.getGeometry(kind);
+                for (int i = 0; i < geometries.size; i++) {
+                    StaticGeometry geometry = geometries.get(i);
+                    staticRectCount += geometry.getRectCount();
+                    staticProxyCount += geometry.getProxyCount();
+                    addSpawn(new Spawn(kind, null, geometry, chunkOf(geometry.getLeft()), chunkOf(geometry.getRight())));
+                }
+                continue;
+            }
+            for (MapObject object : level.getObjects(kind)) {
+                getBounds(object, bounds);
+                if (kind == SIGNS) {
+                    addSpawn(new Spawn(kind, object, null, chunkOf(bounds.x), chunkOf(bounds.x + bounds.width)));
+                } else {
+                    int chunk = chunkOf(bounds.x + bounds.width / 2);
+                    addSpawn(new Spawn(kind, object, null, chunk, chunk));
+                }
+            }
+        }
+        Gdx.app.debug(TAG, "static geometry: " + staticRectCount + " rects merged into "
+                + staticProxyCount + " proxies");
+        Trace.instance.end(Trace.WORLD_CREATOR);
+    }
+
+    /** Whether the layer is merged into static geometry rather than spawned object by object. */
+    static boolean isMerged(int kind) {
+        return kind != SIGNS && kind <= LADDERS;
+    }
+
+    // Static bodies sit in every chunk they cover so a long ground is found
+    // whichever end the window comes from
+    private void addSpawn(Spawn spawn) {
+        for (int i = spawn.firstChunk; i <= spawn.lastChunk; i++)
+            chunks.get(i).add(spawn);
+    }
+
+    /**
+     * Moves the simulation window to be centred on x (meters). Chunks entering
+     * the window get their bodies made on first visit, static bodies leaving it
+     * are deactivated. Must not be called during world.step.
+     */
+    public void updateWindow(float x) {
+        windowLeft = x - V_WIDTH / 2 - WINDOW_MARGIN;
+        windowRight = x + V_WIDTH / 2 + WINDOW_MARGIN;
+        // Statics get one extra chunk so there is always ground under an active body
+        int first = Math.max(0, chunkOf(windowLeft) - 1);
+        int last = Math.min(chunks.size - 1, chunkOf(windowRight) + 1);
+        if (first == firstChunk && last == lastChunk) return;
+        firstChunk = first;
+        lastChunk = last;
+        Trace.instance.begin(Trace.SPAWN);
+        for (int i = first; i <= last; i++) {
+            Array<Spawn> chunk = chunks.get(i);
+            for (int j = 0; j < chunk.size; j++) {
+                Spawn spawn = chunk.get(j);
+                if (!spawn.spawned) spawn(spawn);
+            }
+        }
+        for (int i = 0; i < statics.size; i++) {
+            Spawn spawn = statics.get(i);
+            boolean active = spawn.lastChunk >= first && spawn.firstChunk <= last;
+            Body body = spawn.platform.getBody();
+            if (body.isActive() != active)
+                body.setActive(active);
+        }
+        Trace.instance.end(Trace.SPAWN);
+    }
+
+    /** Whether a dynamic body at x (meters) should be simulating. */
+    public boolean isInWindow(float x) {
+        return x >= windowLeft && x <= windowRight;
+    }
+
+    private void spawn(Spawn spawn) {
+        spawn.spawned = true;
+        MapObject object = spawn.object;
+        switch (spawn.kind) {
+            case GROUNDS: {
+                Ground item = groundPool.obtain();
+                item.init(spawn.geometry, BodyFactory.GROUND);
+                activeGrounds.add(item);
+                spawn.platform = item;
+                break;
+            }
+            case HIDDEN_WALLS: {
+                HiddenWall item = hiddenWallPool.obtain();
+                item.init(spawn.geometry, BodyFactory.HIDDEN_WALL);
+                activeHiddenWalls.add(item);
+                spawn.platform = item;
+                break;
+            }
+            case SIGNS: {
+                Sign item = signPool.obtain();
+                int type = object.getProperties().get("type", Integer.class) != null ? object.getProperties().get("type", Integer.class) : Sign.DEFAULT_SIGN;
+                int level = object.getProperties().get("level", Integer.class) != null ? object.getProperties().get("level", Integer.class) : 1;
+                item.init(object, type, level);
+                activeSigns.add(item);
+                spawn.platform = item;
+                break;
+            }
+            case SPIKES: {
+                Spike item = spikePool.obtain();
+                item.init(spawn.geometry, BodyFactory.SPIKE);
+                activeSpikes.add(item);
+                spawn.platform = item;
+                break;
+            }
+            case LADDERS: {
+                Ladder item = ladderPool.obtain();
+                item.init(spawn.geometry, BodyFactory.LADDER);
+                activeLadders.add(item);
+                spawn.platform = item;
+                break;
+            }
+            case CRATES: {
+                Crate crate = boxObjects.obtain(cratePool);
+                crate.init(object);
+                boxIndex.add(crate, crate.getBody().getPosition().x);
+                break;
+            }
+            case COINS:
+                spawnItem(itemObjects.obtain(coinPool), object);
+                break;
+            case FEATHERS:
+                spawnItem(itemObjects.obtain(featherPool), object);
+                break;
+            case ZOMBIES:
+                spawnEnemy(enemies.obtain(zombiePool), object);
+                break;
+            case ROBOTS:
+                spawnEnemy(enemies.obtain(robotPool), object);
+                break;
+            case ADVENTURE_GIRLS:
+                spawnEnemy(enemies.obtain(adventureGirlPool), object);
+                break;
+            case DINOS:
+                spawnEnemy(enemies.obtain(dinoPool), object);
+                break;
+            case KNIGHTS:
+                spawnEnemy(enemies.obtain(knightPool), object);
+                break;
+            case SANTAS:
+                spawnEnemy(enemies.obtain(santaPool), object);
+                break;
+            case GHOSTS:
+                spawnEnemy(enemies.obtain(ghostPool), object);
+                break;
+            case BONES:
+                spawnEnemy(enemies.obtain(bonePool), object);
+                break;
+        }
+        if (spawn.platform != null)
+            statics.add(spawn);
+    }
+
+    private void spawnItem(ItemObject item, MapObject object) {
+        item.init(object);
+        itemIndex.add(item, item.getBody().getPosition().x);
+    }
+
+    private void spawnEnemy(Enemy enemy, MapObject object) {
+        enemy.init(object, object.getProperties().get("type", Integer.class));
+        enemyIndex.add(enemy, enemy.getBody().getPosition().x);
+    }
+
+    private int chunkOf(float x) {
+        return level.chunkOf(x);
+    }
+
+    private static void getBounds(MapObject object, Rectangle out) {
+        if (object instanceof EllipseMapObject) {
+            Ellipse ellipse = ((EllipseMapObject) object).getEllipse();
+            out.set(ellipse.x, ellipse.y, ellipse.width, ellipse.height);
+        } else {
+            out.set(((RectangleMapObject) object).getRectangle());
+        }
+        out.set(out.x / PPM, out.y / PPM, out.width / PPM, out.height / PPM);
+    }
+
+    private static class Spawn {
+        final int kind;
+        final MapObject object;
+        final StaticGeometry geometry;
+        final int firstChunk;
+        final int lastChunk;
+        PlatformObject platform;
+        boolean spawned;
+
+        Spawn(int kind, MapObject object, StaticGeometry geometry, int firstChunk, int lastChunk) {
+            this.kind = kind;
+            this.object = object;
+            this.geometry = geometry;
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+        }
+    }
+
+    public EntityRegistry<BoxObject> getBoxObjects() {
+        return boxObjects;
+    }
 
-        //create ghosts bodies/fixtures
-        for (MapObject object: map.getLayers().get("ghosts").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            Ghost item = ghostPool.obtain();
-            item.init(object, object.getProperties().get("type", Integer.class));
-            activeGhosts.add(item);
-        }
+    public EntityRegistry<ItemObject> getItemObjects() {
+        return itemObjects;
+    }
 
-        //create bones bodies/fixtures
-        for (MapObject object: map.getLayers().get("bones").getObjects().getByType(RectangleMapObject.class)) {
-            // if you want to spawn a new:
-            Bone item = bonePool.obtain();
-            item.init(object, object.getProperties().get("type", Integer.class));
-            activeBones.add(item);
-        }
+    public EntityRegistry<Enemy> getEnemies() {
+        return enemies;
     }
 
-    public Array<BoxObject> getActiveBoxObjects() {
-        Array<BoxObject> boxObjects = new Array<BoxObject>();
-        boxObjects.addAll(activeCrates);
-        return boxObjects;
+    public SpatialIndex<BoxObject> getBoxIndex() {
+        return boxIndex;
     }
 
-    public Array<ItemObject> getActiveItemObjects() {
-        Array<ItemObject> itemObjects = new Array<ItemObject>();
-        itemObjects.addAll(activeCoins);
-        itemObjects.addAll(activeFeathers);
-        return itemObjects;
+    public SpatialIndex<ItemObject> getItemIndex() {
+        return itemIndex;
     }
 
-    public Array<Enemy> getActiveEnemies() {
-        Array<Enemy> enemies = new Array<Enemy>();
-        enemies.addAll(activeZombies);
-        enemies.addAll(activeRobots);
-        enemies.addAll(activeAdventureGirls);
-        enemies.addAll(activeDinos);
-        enemies.addAll(activeKnights);
-        enemies.addAll(activeSantas);
-        enemies.addAll(activeGhosts);
-        enemies.addAll(activeBones);
-        return enemies;
+    public SpatialIndex<Enemy> getEnemyIndex() {
+        return enemyIndex;
     }
 
     public Array<Spike> getActiveSpikes() {
@@ -341,100 +457,22 @@ public class B2WorldCreator {
         return signPool;
     }
 
-    public Array<Coin> getActiveCoins() {
-        return activeCoins;
-    }
-
-    public Pool<Coin> getCoinPool() {
-        return coinPool;
-    }
-
-    public Array<Feather> getActiveFeathers() {
-        return activeFeathers;
-    }
-
-    public Pool<Feather> getFeatherPool() {
-        return featherPool;
-    }
-
-    public Array<Crate> getActiveCrates() {
-        return activeCrates;
-    }
-
-    public Pool<Crate> getCratePool() {
-        return cratePool;
-    }
-
-    public Array<Zombie> getActiveZombies() {
-        return activeZombies;
-    }
-
-    public Pool<Zombie> getZombiePool() {
-        return zombiePool;
-    }
-
-    public Array<Santa> getActiveSantas() {
-        return activeSantas;
-    }
-
-    public Pool<Santa> getSantaPool() {
-        return santaPool;
-    }
-
-    public Array<Robot> getActiveRobots() {
-        return activeRobots;
-    }
-
-    public Pool<Robot> getRobotPool() {
-        return robotPool;
-    }
-
-    public Array<Knight> getActiveKnights() {
-        return activeKnights;
-    }
-
-    public Pool<Knight> getKnightPool() {
-        return knightPool;
-    }
-
-    public Array<Dino> getActiveDinos() {
-        return activeDinos;
-    }
-
-    public Pool<Dino> getDinoPool() {
-        return dinoPool;
-    }
-
-    public Array<AdventureGirl> getActiveAdventureGirls() {
-        return activeAdventureGirls;
-    }
-
-    public Pool<AdventureGirl> getAdventureGirlPool() {
-        return adventureGirlPool;
-    }
-
-    public Array<Ghost> getActiveGhosts() {
-        return activeGhosts;
-    }
-
-    public Pool<Ghost> getGhostPool() {
-        return ghostPool;
-    }
-
-    public Array<Bone> getActiveBones() {
-        return activeBones;
+    /** Rectangles in the merged static layers, one proxy each before merging. */
+    public int getStaticRectCount() {
+        return staticRectCount;
     }
 
-    public Pool<Bone> getBonePool() {
-        return bonePool;
+    /** Proxies the merged static layers take once every chunk is spawned. */
+    public int getStaticProxyCount() {
+        return staticProxyCount;
     }
 
     public World getWorld() {
         return world;
     }
 
-    public Map getMap() {
-        return map;
+    public LevelData getLevel() {
+        return level;
     }
 
     public ScoreIndicator getScoreIndicator() {
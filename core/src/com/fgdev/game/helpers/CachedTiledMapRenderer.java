@@ -0,0 +1,205 @@
+package com.fgdev.game.helpers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Draws the level background and its tile layers from a SpriteCache built
+ * once when the level loads. Every layer is cut into chunks a screen wide,
+ * a frame only issues the draws for the chunks the camera overlaps instead of
+ * writing the vertices of each visible tile again like
+ * OrthogonalTiledMapRenderer. The tiles must not change after the bake,
+ * animated tiles stay on the frame they had.
+ */
+public class CachedTiledMapRenderer implements Disposable {
+
+    private static final String TAG = CachedTiledMapRenderer.class.getName();
+
+    private static final int NUM_VERTICES = 20;
+
+    private final float unitScale;
+    // Owned by the asset manager, not disposed here
+    private Texture background;
+    private final SpriteBatch batch;
+    private final SpriteCache cache;
+    // cache id per layer and chunk, -1 for a chunk without tiles
+    private final int[][] chunks;
+    private final float chunkWidth;
+    private final Rectangle viewBounds = new Rectangle();
+    private final float[] vertices = new float[NUM_VERTICES];
+
+    /** @param chunkWidth width of a chunk in world units, a screen */
+    public CachedTiledMapRenderer(TiledMap map, float unitScale, Texture background, float chunkWidth) {
+        this.unitScale = unitScale;
+        this.background = background;
+        batch = new SpriteBatch();
+
+        int layerCount = 0;
+        int tileCount = 0;
+        int mapWidth = 0;
+        for (MapLayer mapLayer : map.getLayers()) {
+            if (!(mapLayer instanceof TiledMapTileLayer) || !mapLayer.isVisible()) continue;
+            TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+            layerCount++;
+            mapWidth = Math.max(mapWidth, layer.getWidth());
+            for (int y = 0; y < layer.getHeight(); y++) {
+                for (int x = 0; x < layer.getWidth(); x++) {
+                    TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                    if (cell != null && cell.getTile() != null) tileCount++;
+                }
+            }
+        }
+        // With indices a cache holds up to 8191 tiles, the largest level has about 5400
+        cache = new SpriteCache(Math.max(tileCount, 1), true);
+
+        int tileWidth = map.getProperties().get("tilewidth", Integer.class);
+        int chunkTiles = Math.max(1, (int) Math.ceil(chunkWidth / (tileWidth * unitScale)));
+        this.chunkWidth = chunkTiles * tileWidth * unitScale;
+        int chunkCount = (mapWidth + chunkTiles - 1) / chunkTiles;
+        chunks = new int[layerCount][chunkCount];
+        int l = 0;
+        for (MapLayer mapLayer : map.getLayers()) {
+            if (!(mapLayer instanceof TiledMapTileLayer) || !mapLayer.isVisible()) continue;
+            TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+            for (int c = 0; c < chunkCount; c++) {
+                chunks[l][c] = bake(layer, c * chunkTiles, Math.min((c + 1) * chunkTiles, layer.getWidth()));
+            }
+            l++;
+        }
+        Gdx.app.debug(TAG, tileCount + " tiles in " + layerCount + " layers of " + chunkCount + " chunks");
+    }
+
+    // Caches the columns [col1, col2) of a layer, the same quads OrthogonalTiledMapRenderer draws
+    private int bake(TiledMapTileLayer layer, int col1, int col2) {
+        float color = Color.toFloatBits(1, 1, 1, layer.getOpacity());
+        float layerTileWidth = layer.getTileWidth() * unitScale;
+        float layerTileHeight = layer.getTileHeight() * unitScale;
+        float layerOffsetX = layer.getOffsetX() * unitScale;
+        // offset in tiled is y down, so we flip it
+        float layerOffsetY = -layer.getOffsetY() * unitScale;
+        int count = 0;
+        cache.beginCache();
+        for (int row = 0; row < layer.getHeight(); row++) {
+            for (int col = col1; col < col2; col++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                if (cell == null) continue;
+                TiledMapTile tile = cell.getTile();
+                if (tile == null) continue;
+                TextureRegion region = tile.getTextureRegion();
+                float x1 = col * layerTileWidth + tile.getOffsetX() * unitScale + layerOffsetX;
+                float y1 = row * layerTileHeight + tile.getOffsetY() * unitScale + layerOffsetY;
+                float x2 = x1 + region.getRegionWidth() * unitScale;
+                float y2 = y1 + region.getRegionHeight() * unitScale;
+                setVertices(cell, region, color, x1, y1, x2, y2);
+                cache.add(region.getTexture(), vertices, 0, NUM_VERTICES);
+                count++;
+            }
+        }
+        int id = cache.endCache();
+        return count > 0 ? id : -1;
+    }
+
+    private void setVertices(TiledMapTileLayer.Cell cell, TextureRegion region, float color,
+                             float x1, float y1, float x2, float y2) {
+        float[] v = vertices;
+        float u1 = region.getU();
+        float v1 = region.getV2();
+        float u2 = region.getU2();
+        float v2 = region.getV();
+        v[Batch.X1] = x1; v[Batch.Y1] = y1; v[Batch.C1] = color; v[Batch.U1] = u1; v[Batch.V1] = v1;
+        v[Batch.X2] = x1; v[Batch.Y2] = y2; v[Batch.C2] = color; v[Batch.U2] = u1; v[Batch.V2] = v2;
+        v[Batch.X3] = x2; v[Batch.Y3] = y2; v[Batch.C3] = color; v[Batch.U3] = u2; v[Batch.V3] = v2;
+        v[Batch.X4] = x2; v[Batch.Y4] = y1; v[Batch.C4] = color; v[Batch.U4] = u2; v[Batch.V4] = v1;
+        if (cell.getFlipHorizontally()) {
+            swap(Batch.U1, Batch.U3);
+            swap(Batch.U2, Batch.U4);
+        }
+        if (cell.getFlipVertically()) {
+            swap(Batch.V1, Batch.V3);
+            swap(Batch.V2, Batch.V4);
+        }
+        switch (cell.getRotation()) {
+            case TiledMapTileLayer.Cell.ROTATE_90:
+                rotate(Batch.V1, Batch.V2, Batch.V3, Batch.V4);
+                rotate(Batch.U1, Batch.U2, Batch.U3, Batch.U4);
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_180:
+                swap(Batch.U1, Batch.U3);
+                swap(Batch.U2, Batch.U4);
+                swap(Batch.V1, Batch.V3);
+                swap(Batch.V2, Batch.V4);
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_270:
+                rotate(Batch.V1, Batch.V4, Batch.V3, Batch.V2);
+                rotate(Batch.U1, Batch.U4, Batch.U3, Batch.U2);
+                break;
+        }
+    }
+
+    private void swap(int a, int b) {
+        float temp = vertices[a];
+        vertices[a] = vertices[b];
+        vertices[b] = temp;
+    }
+
+    // a takes b, b takes c, c takes d, d takes a
+    private void rotate(int a, int b, int c, int d) {
+        float temp = vertices[a];
+        vertices[a] = vertices[b];
+        vertices[b] = vertices[c];
+        vertices[c] = vertices[d];
+        vertices[d] = temp;
+    }
+
+    public void setView(OrthographicCamera camera) {
+        batch.setProjectionMatrix(camera.combined);
+        cache.setProjectionMatrix(camera.combined);
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        viewBounds.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+    }
+
+    public void render() {
+        batch.begin();
+        batch.draw(background, viewBounds.x, viewBounds.y, viewBounds.width, viewBounds.height);
+        batch.end();
+
+        int first = Math.max(0, (int) (viewBounds.x / chunkWidth));
+        int last = (int) ((viewBounds.x + viewBounds.width) / chunkWidth);
+        // SpriteCache leaves blending to the caller
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.begin();
+        for (int l = 0; l < chunks.length; l++) {
+            int[] layer = chunks[l];
+            for (int c = first; c <= last && c < layer.length; c++) {
+                if (layer[c] != -1) cache.draw(layer[c]);
+            }
+        }
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    public void setBackground(Texture background) {
+        this.background = background;
+    }
+
+    @Override
+    public void dispose() {
+        batch.dispose();
+        cache.dispose();
+    }
+}
@@ -0,0 +1,164 @@
+package com.fgdev.game.helpers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.ImageResolver;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSets;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.io.IOException;
+
+/**
+ * Loads tmx maps with tileset textures shared between maps and kept between
+ * levels. Textures are keyed by a hash of the png bytes, so two copies of the
+ * same image under different paths still end up as one texture. The maps do
+ * not own the textures, disposing a map leaves them alone, {@link #dispose()}
+ * frees them when the game closes.
+ */
+public class CachingTmxMapLoader extends TmxMapLoader implements Disposable {
+
+    private static final String TAG = CachingTmxMapLoader.class.getName();
+
+    public static final CachingTmxMapLoader instance = new CachingTmxMapLoader();
+
+    // path -> content hash, so a file is only read and hashed once
+    private final ObjectMap<String, String> hashes = new ObjectMap<String, String>();
+    private final ObjectMap<String, Texture> textures = new ObjectMap<String, Texture>();
+
+    private CachingTmxMapLoader() {
+    }
+
+    @Override
+    public TiledMap load(String fileName, Parameters parameters) {
+        try {
+            convertObjectToTileSpace = parameters.convertObjectToTileSpace;
+            flipY = parameters.flipY;
+            FileHandle tmxFile = resolve(fileName);
+            root = xml.parse(tmxFile);
+            Array<FileHandle> textureFiles = loadTilesets(root, tmxFile);
+            textureFiles.addAll(loadImages(root, tmxFile));
+
+            ObjectMap<String, Texture> mapTextures = new ObjectMap<String, Texture>();
+            int resident = textures.size;
+            for (FileHandle textureFile : textureFiles) {
+                mapTextures.put(textureFile.path(), getTexture(textureFile, parameters));
+            }
+            // No setOwnedResources, the textures outlive the map
+            TiledMap map = loadTilemap(root, tmxFile, new ImageResolver.DirectImageResolver(mapTextures));
+            Gdx.app.debug(TAG, fileName + ": " + textureFiles.size + " tilesets, "
+                    + (textures.size - resident) + " loaded, " + textures.size + " resident");
+            return map;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't load tilemap '" + fileName + "'", e);
+        }
+    }
+
+    /**
+     * Builds the tile layers of a level read from its binary file, with the
+     * same tiles and cells TmxMapLoader would make from the tmx.
+     */
+    public TiledMap load(LevelData level) {
+        Parameters parameters = new Parameters();
+        TiledMap map = new TiledMap();
+        MapProperties properties = map.getProperties();
+        properties.put("width", level.getWidth());
+        properties.put("height", level.getHeight());
+        properties.put("tilewidth", level.getTileWidth());
+        properties.put("tileheight", level.getTileHeight());
+        int resident = textures.size;
+        for (LevelData.Tileset tileset : level.getTilesets()) {
+            Texture texture = getTexture(resolve(tileset.image), parameters);
+            TiledMapTileSet tiles = new TiledMapTileSet();
+            tiles.setName(tileset.name);
+            int stopWidth = texture.getWidth() - tileset.tileWidth;
+            int stopHeight = texture.getHeight() - tileset.tileHeight;
+            int id = tileset.firstGid;
+            for (int y = tileset.margin; y <= stopHeight; y += tileset.tileHeight + tileset.spacing) {
+                for (int x = tileset.margin; x <= stopWidth; x += tileset.tileWidth + tileset.spacing) {
+                    TiledMapTile tile = new StaticTiledMapTile(
+                            new TextureRegion(texture, x, y, tileset.tileWidth, tileset.tileHeight));
+                    tile.setId(id);
+                    tiles.putTile(id++, tile);
+                }
+            }
+            map.getTileSets().addTileSet(tiles);
+        }
+        TiledMapTileSets tileSets = map.getTileSets();
+        for (LevelData.TileLayer data : level.getTileLayers()) {
+            TiledMapTileLayer layer = new TiledMapTileLayer(data.width, data.height,
+                    level.getTileWidth(), level.getTileHeight());
+            layer.setName(data.name);
+            layer.setVisible(data.visible);
+            layer.setOpacity(data.opacity);
+            layer.setOffsetX(data.offsetX);
+            layer.setOffsetY(-data.offsetY);
+            for (int y = 0; y < data.height; y++) {
+                for (int x = 0; x < data.width; x++) {
+                    int gid = data.gids[y * data.width + x];
+                    TiledMapTile tile = tileSets.getTile(gid & ~MASK_CLEAR);
+                    if (tile == null) continue;
+                    TiledMapTileLayer.Cell cell = createTileLayerCell((gid & FLAG_FLIP_HORIZONTALLY) != 0,
+                            (gid & FLAG_FLIP_VERTICALLY) != 0, (gid & FLAG_FLIP_DIAGONALLY) != 0);
+                    cell.setTile(tile);
+                    layer.setCell(x, data.height - 1 - y, cell);
+                }
+            }
+            map.getLayers().add(layer);
+        }
+        Gdx.app.debug(TAG, level.getMapPath() + ": " + level.getTilesets().size + " tilesets, "
+                + (textures.size - resident) + " loaded, " + textures.size + " resident");
+        return map;
+    }
+
+    private Texture getTexture(FileHandle file, Parameters parameters) {
+        String hash = hashOf(file);
+        Texture texture = textures.get(hash);
+        if (texture == null) {
+            texture = new Texture(file, parameters.generateMipMaps);
+            texture.setFilter(parameters.textureMinFilter, parameters.textureMagFilter);
+            textures.put(hash, texture);
+        }
+        return texture;
+    }
+
+    private String hashOf(FileHandle file) {
+        String hash = hashes.get(file.path());
+        if (hash == null) {
+            byte[] bytes = file.readBytes();
+            // FNV-1a, MessageDigest is not available on the html backend
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < bytes.length; i++) {
+                h ^= bytes[i] & 0xff;
+                h *= 0x100000001b3L;
+            }
+            hash = Long.toHexString(h) + ":" + bytes.length;
+            hashes.put(file.path(), hash);
+        }
+        return hash;
+    }
+
+    public int getTextureCount() {
+        return textures.size;
+    }
+
+    @Override
+    public void dispose() {
+        for (Texture texture : textures.values()) {
+            texture.dispose();
+        }
+        textures.clear();
+        hashes.clear();
+    }
+}
@@ -0,0 +1,48 @@
+package com.fgdev.game.helpers;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Live entities of one category (enemies, items, boxes) together with the pool
+ * each one came from. The order is not kept: freeing swaps the last entity into
+ * the freed slot, so iterate backwards when freeing while iterating.
+ */
+public class EntityRegistry<T> {
+
+    private final Array<T> entities;
+    private final Array<Pool<? extends T>> pools;
+
+    public EntityRegistry() {
+        entities = new Array<T>(false, 64);
+        pools = new Array<Pool<? extends T>>(false, 64);
+    }
+
+    public <E extends T> E obtain(Pool<E> pool) {
+        E entity = pool.obtain();
+        entities.add(entity);
+        pools.add(pool);
+        return entity;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void free(int index) {
+        T entity = entities.removeIndex(index);
+        Pool<T> pool = (Pool<T>) pools.removeIndex(index);
+        pool.free(entity);
+    }
+
+    public T get(int index) {
+        return entities.get(index);
+    }
+
+    public int size() {
+        return entities.size;
+    }
+
+    public void clear() {
+        for (int i = entities.size; --i >= 0;) {
+            free(i);
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package com.fgdev.game.helpers;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.EllipseMapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.Ellipse;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static com.fgdev.game.Constants.PPM;
+
+/**
+ * Everything a level needs at runtime: tile layers, the objects of each layer
+ * {@link B2WorldCreator} spawns with their type and level properties, and the
+ * static layers already merged into {@link StaticGeometry}.
+ *
+ * Levels are read from the binary file next to the map, "map1.lvl" for
+ * "map1.tmx", written offline by the desktop LevelConverterApp. The header
+ * keeps the length and hash of the tmx it was made from. Without a binary,
+ * with one from an older version or, on desktop, from another revision of
+ * the map, the tmx is parsed instead. The build runs the converter before
+ * packaging, so elsewhere the stamp is trusted and the tmx is never read.
+ */
+public class LevelData {
+
+    private static final String TAG = LevelData.class.getName();
+
+    private static final int MAGIC = 0x46474c56;
+    private static final int VERSION = 3;
+    private static final int ELLIPSE = 1;
+    private static final int HAS_TYPE = 2;
+    private static final int HAS_LEVEL = 4;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // Width of a streaming chunk in meters
+    static final float CHUNK_WIDTH = 8f;
+
+    // The level asked for last, the manifest and the game screen share it
+    private static LevelData cached;
+    private static AsyncExecutor executor;
+
+    final String mapPath;
+    final int width;
+    final int height;
+    final int tileWidth;
+    final int tileHeight;
+    final Array<Tileset> tilesets = new Array<Tileset>();
+    final Array<TileLayer> tileLayers = new Array<TileLayer>();
+    // By B2WorldCreator layer, the merged layers have geometry instead
+    private final Array<Array<MapObject>> objects = new Array<Array<MapObject>>();
+    // By B2WorldCreator layer, one for each span of chunks the merged
+    // rectangles cover
+    private final Array<Array<StaticGeometry>> geometry = new Array<Array<StaticGeometry>>();
+    private final int chunkCount;
+
+    LevelData(String mapPath, int width, int height, int tileWidth, int tileHeight) {
+        this.mapPath = mapPath;
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        chunkCount = Math.max(1, MathUtils.ceil(width * tileWidth / PPM / CHUNK_WIDTH));
+        for (int kind = 0; kind < B2WorldCreator.LAYERS.length; kind++) {
+            objects.add(new Array<MapObject>());
+            geometry.add(new Array<StaticGeometry>(chunkCount));
+        }
+    }
+
+    /** Binary level file of a tmx map. */
+    public static String binaryPath(String mapPath) {
+        return mapPath.substring(0, mapPath.lastIndexOf('.')) + ".lvl";
+    }
+
+    /** Reads the level of the map, from its binary file when there is a current one. */
+    public static synchronized LevelData load(String mapPath) {
+        if (cached != null && cached.mapPath.equals(mapPath)) return cached;
+        long start = TimeUtils.millis();
+        FileHandle tmx = Gdx.files.internal(mapPath);
+        FileHandle binary = Gdx.files.internal(binaryPath(mapPath));
+        // Only a desktop run straight from the assets can have a map edited
+        // after the build converted it
+        Application.ApplicationType type = Gdx.app.getType();
+        boolean desktop = type == Application.ApplicationType.Desktop
+                || type == Application.ApplicationType.HeadlessDesktop;
+        LevelData level = binary.exists() ? read(binary, mapPath, desktop ? tmx : null) : null;
+        if (level == null) {
+            Gdx.app.debug(TAG, "no current " + binary.path() + ", parsing the tmx");
+            level = TmxLevelParser.parse(tmx, mapPath);
+        }
+        Gdx.app.debug(TAG, mapPath + " loaded in " + TimeUtils.timeSinceMillis(start) + " ms");
+        cached = level;
+        return level;
+    }
+
+    /**
+     * Starts {@link #load} on a background thread. Once the result is done
+     * load returns the same level without reading anything.
+     */
+    public static AsyncResult<LevelData> loadAsync(final String mapPath) {
+        if (executor == null) executor = new AsyncExecutor(1);
+        return executor.submit(new AsyncTask<LevelData>() {
+            @Override
+            public LevelData call() {
+                return load(mapPath);
+            }
+        });
+    }
+
+    /**
+     * The level from a binary file, or null if it was written by another
+     * version or from another revision of the tmx.
+     *
+     * @param source the tmx to check the stamp against, null to trust it
+     */
+    public static LevelData read(FileHandle file, String mapPath, FileHandle source) {
+        DataInput in = new DataInput(new ByteArrayInputStream(file.readBytes()));
+        try {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) return null;
+            long length = in.readLong();
+            long hash = in.readLong();
+            if (source != null) {
+                // The length rules out most edits without reading the tmx
+                if (source.length() != length) return null;
+                if (hash(source.readBytes()) != hash) return null;
+            }
+            LevelData level = new LevelData(mapPath, in.readInt(true), in.readInt(true),
+                    in.readInt(true), in.readInt(true));
+            for (int i = 0, n = in.readInt(true); i < n; i++) {
+                level.tilesets.add(new Tileset(in.readString(), in.readString(), in.readInt(true),
+                        in.readInt(true), in.readInt(true), in.readInt(true), in.readInt(true)));
+            }
+            for (int i = 0, n = in.readInt(true); i < n; i++) {
+                TileLayer layer = new TileLayer(in.readString(), in.readBoolean(), in.readFloat(),
+                        in.readFloat(), in.readFloat(), in.readInt(true), in.readInt(true));
+                for (int j = 0; j < layer.gids.length; j++) {
+                    layer.gids[j] = in.readInt(true);
+                }
+                level.tileLayers.add(layer);
+            }
+            for (int kind = 0; kind < B2WorldCreator.LAYERS.length; kind++) {
+                if (B2WorldCreator.isMerged(kind)) {
+                    Array<StaticGeometry> geometries = level.geometry.get(kind);
+                    for (int i = 0, n = in.readInt(true); i < n; i++) {
+                        geometries.add(new StaticGeometry(in));
+                    }
+                    continue;
+                }
+                Array<MapObject> kindObjects = level.objects.get(kind);
+                for (int i = 0, n = in.readInt(true); i < n; i++) {
+                    int flags = in.readByte();
+                    float x = in.readFloat();
+                    float y = in.readFloat();
+                    float w = in.readFloat();
+                    float h = in.readFloat();
+                    MapObject object = (flags & ELLIPSE) != 0
+                            ? new EllipseMapObject(x, y, w, h)
+                            : new RectangleMapObject(x, y, w, h);
+                    if ((flags & HAS_TYPE) != 0) object.getProperties().put("type", in.readInt(false));
+                    if ((flags & HAS_LEVEL) != 0) object.getProperties().put("level", in.readInt(false));
+                    kindObjects.add(object);
+                }
+            }
+            return level;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't read level " + file.path(), e);
+        }
+    }
+
+    /** Writes the level in the binary format {@link #read} takes, stamped with the tmx it came from. */
+    public void write(FileHandle file, FileHandle source) {
+        byte[] tmx = source.readBytes();
+        DataOutput out = new DataOutput(file.write(false));
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(tmx.length);
+            out.writeLong(hash(tmx));
+            out.writeInt(width, true);
+            out.writeInt(height, true);
+            out.writeInt(tileWidth, true);
+            out.writeInt(tileHeight, true);
+            out.writeInt(tilesets.size, true);
+            for (Tileset tileset : tilesets) {
+                out.writeString(tileset.name);
+                out.writeString(tileset.image);
+                out.writeInt(tileset.firstGid, true);
+                out.writeInt(tileset.tileWidth, true);
+                out.writeInt(tileset.tileHeight, true);
+                out.writeInt(tileset.spacing, true);
+                out.writeInt(tileset.margin, true);
+            }
+            out.writeInt(tileLayers.size, true);
+            for (TileLayer layer : tileLayers) {
+                out.writeString(layer.name);
+                out.writeBoolean(layer.visible);
+                out.writeFloat(layer.opacity);
+                out.writeFloat(layer.offsetX);
+                out.writeFloat(layer.offsetY);
+                out.writeInt(layer.width, true);
+                out.writeInt(layer.height, true);
+                for (int gid : layer.gids) {
+                    out.writeInt(gid, true);
+                }
+            }
+            for (int kind = 0; kind < B2WorldCreator.LAYERS.length; kind++) {
+                if (B2WorldCreator.isMerged(kind)) {
+                    Array<StaticGeometry> geometries = geometry.get(kind);
+                    out.writeInt(geometries.size, true);
+                    for (StaticGeometry piece : geometries) {
+                        piece.write(out);
+                    }
+                    continue;
+                }
+                Array<MapObject> kindObjects = objects.get(kind);
+                out.writeInt(kindObjects.size, true);
+                for (MapObject object : kindObjects) {
+                    Integer type = object.getProperties().get("type", Integer.class);
+                    Integer level = object.getProperties().get("level", Integer.class);
+                    int flags = object instanceof EllipseMapObject ? ELLIPSE : 0;
+                    if (type != null) flags |= HAS_TYPE;
+                    if (level != null) flags |= HAS_LEVEL;
+                    out.writeByte(flags);
+                    if (object instanceof EllipseMapObject) {
+                        Ellipse ellipse = ((EllipseMapObject) object).getEllipse();
+                        out.writeFloat(ellipse.x);
+                        out.writeFloat(ellipse.y);
+                        out.writeFloat(ellipse.width);
+                        out.writeFloat(ellipse.height);
+                    } else {
+                        Rectangle rect = ((RectangleMapObject) object).getRectangle();
+                        out.writeFloat(rect.x);
+                        out.writeFloat(rect.y);
+                        out.writeFloat(rect.width);
+                        out.writeFloat(rect.height);
+                    }
+                    if (type != null) out.writeInt(type, false);
+                    if (level != null) out.writeInt(level, false);
+                }
+            }
+            out.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't write level " + file.path(), e);
+        }
+    }
+
+    // FNV-1a over the file
+    private static long hash(byte[] bytes) {
+        long h = FNV_OFFSET;
+        for (int i = 0; i < bytes.length; i++) {
+            h ^= bytes[i] & 0xff;
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    void addObject(int kind, MapObject object) {
+        objects.get(kind).add(object);
+    }
+
+    /**
+     * Merges the rectangles of the static layers and drops them. Rectangles
+     * that touch are merged whichever chunks they are in, then everything
+     * covering the same span of chunks goes in one geometry, so a geometry
+     * is spawned and deactivated with the chunks it covers.
+     */
+    void compile() {
+        IntMap<Array<Rectangle>> spans = new IntMap<Array<Rectangle>>();
+        IntArray keys = new IntArray();
+        for (int kind = 0; kind < B2WorldCreator.LAYERS.length; kind++) {
+            if (!B2WorldCreator.isMerged(kind)) continue;
+            Array<MapObject> kindObjects = objects.get(kind);
+            Array<Rectangle> rects = new Array<Rectangle>(kindObjects.size);
+            for (MapObject object : kindObjects) {
+                rects.add(((RectangleMapObject) object).getRectangle());
+            }
+            kindObjects.clear();
+
+            // Span of each group, kept at the rectangle naming the group
+            int[] group = StaticGeometry.group(rects);
+            float[] left = new float[rects.size];
+            float[] right = new float[rects.size];
+            for (int i = 0; i < rects.size; i++) {
+                left[i] = Float.MAX_VALUE;
+                right[i] = -Float.MAX_VALUE;
+            }
+            for (int i = 0; i < rects.size; i++) {
+                Rectangle rect = rects.get(i);
+                left[group[i]] = Math.min(left[group[i]], rect.x / PPM);
+                right[group[i]] = Math.max(right[group[i]], (rect.x + rect.width) / PPM);
+            }
+            spans.clear();
+            keys.clear();
+            for (int i = 0; i < rects.size; i++) {
+                int key = chunkOf(left[group[i]]) * chunkCount + chunkOf(right[group[i]]);
+                Array<Rectangle> span = spans.get(key);
+                if (span == null) {
+                    span = new Array<Rectangle>();
+                    spans.put(key, span);
+                    keys.add(key);
+                }
+                span.add(rects.get(i));
+            }
+
+            Array<StaticGeometry> geometries = geometry.get(kind);
+            geometries.clear();
+            keys.sort();
+            for (int i = 0; i < keys.size; i++) {
+                geometries.add(new StaticGeometry(spans.get(keys.get(i))));
+            }
+        }
+    }
+
+    int chunkOf(float x) {
+        return MathUtils.clamp((int) (x / CHUNK_WIDTH), 0, chunkCount - 1);
+    }
+
+    /** Objects of a layer by its index in B2WorldCreator, empty for the merged layers. */
+    public Array<MapObject> getObjects(int kind) {
+        return objects.get(kind);
+    }
+
+    /** Objects of the layer with that name, empty if there is none. */
+    public int getObjectCount(String layer) {
+        for (int kind = 0; kind < B2WorldCreator.LAYERS.length; kind++) {
+            if (!B2WorldCreator.LAYERS[kind].equals(layer)) continue;
+            if (!B2WorldCreator.isMerged(kind)) return objects.get(kind).size;
+            int count = 0;
+            for (StaticGeometry piece : geometry.get(kind)) {
+                count += piece.getRectCount();
+            }
+            return count;
+        }
+        return 0;
+    }
+
+    /** Merged geometry of a static layer, one for each span of chunks it covers. */
+    public Array<StaticGeometry> getGeometry(int kind) {
+        return geometry.get(kind);
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public String getMapPath() {
+        return mapPath;
+    }
+
+    /** Map width in tiles. */
+    public int getWidth() {
+        return width;
+    }
+
+    /** Map height in tiles. */
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    public int getTileHeight() {
+        return tileHeight;
+    }
+
+    public Array<Tileset> getTilesets() {
+        return tilesets;
+    }
+
+    public Array<TileLayer> getTileLayers() {
+        return tileLayers;
+    }
+
+    public static class Tileset {
+        public final String name;
+        // Asset path of the image
+        public final String image;
+        public final int firstGid;
+        public final int tileWidth;
+        public final int tileHeight;
+        public final int spacing;
+        public final int margin;
+
+        Tileset(String name, String image, int firstGid, int tileWidth, int tileHeight, int spacing, int margin) {
+            this.name = name;
+            this.image = image;
+            this.firstGid = firstGid;
+            this.tileWidth = tileWidth;
+            this.tileHeight = tileHeight;
+            this.spacing = spacing;
+            this.margin = margin;
+        }
+    }
+
+    public static class TileLayer {
+        public final String name;
+        public final boolean visible;
+        public final float opacity;
+        public final float offsetX;
+        public final float offsetY;
+        public final int width;
+        public final int height;
+        // Tiled gids row by row from the top, flip flags in the high bits
+        public final int[] gids;
+
+        TileLayer(String name, boolean visible, float opacity, float offsetX, float offsetY, int width, int height) {
+            this.name = name;
+            this.visible = visible;
+            this.opacity = opacity;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.width = width;
+            this.height = height;
+            gids = new int[width * height];
+        }
+    }
+}
@@ -3,56 +3,64 @@ package com.fgdev.game.helpers;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Disposable;
-import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.IntMap;
 import com.fgdev.game.Constants;
+import com.fgdev.game.entitiles.enemies.AdventureGirl;
+import com.fgdev.game.entitiles.enemies.Bone;
+import com.fgdev.game.entitiles.enemies.Dino;
+import com.fgdev.game.entitiles.enemies.Ghost;
+import com.fgdev.game.entitiles.enemies.Knight;
+import com.fgdev.game.entitiles.enemies.Robot;
+import com.fgdev.game.entitiles.enemies.Santa;
+import com.fgdev.game.entitiles.enemies.Zombie;
+import com.fgdev.game.entitiles.tiles.box.Crate;
+import com.fgdev.game.entitiles.tiles.item.Coin;
+import com.fgdev.game.entitiles.tiles.item.Feather;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.logics.GameScreenLogic;
 
 /**
- *
+ * Scores floating up from where they were earned. The items live in parallel
+ * primitive arrays and an expired one is swapped with the last, so a chain of
+ * kills adds nothing for the collector. They are drawn with the GUI camera,
+ * mapped from the game camera, and only when on screen.
  *
  * ScoreIndicator
  */
-public class ScoreIndicator implements Disposable {
+public class ScoreIndicator {
 
     private final String TAG = ScoreIndicator.class.getName();
 
-    class ScoreItem implements Pool.Poolable {
-        float x;
-        float y;
-        float life;
-        String score;
-
-        public ScoreItem() {
-            x = 0;
-            y = 0;
-            life = 0;
-            score = "";
-        }
-
-        public void init(float x, float y, int score) {
-            this.x = x;
-            this.y = y;
-            this.score = Integer.toString(score);
-            life = 0.8f;
-        }
-
-        @Override
-        public void reset() {
-            life = 0;
+    private static final float LIFE = 0.8f;
+    // Pixels a second, what 1.2 a frame was at 60 fps
+    private static final float RISE_SPEED = 72f;
+    private static final float FONT_SCALE = 0.6f;
+    // Wide enough for the longest score, text is drawn from its left edge
+    private static final float CULL_MARGIN = 60f;
+
+    // The handful of values enemies, items and boxes give, made once
+    private static final IntMap<String> SCORE_TEXT = new IntMap<String>();
+
+    static {
+        int[] scores = {
+                AdventureGirl.SCORE, Bone.SCORE, Dino.SCORE, Ghost.SCORE,
+                Knight.SCORE, Robot.SCORE, Santa.SCORE, Zombie.SCORE,
+                Coin.SCORE, Feather.SCORE, Crate.SCORE
+        };
+        for (int score : scores) {
+            SCORE_TEXT.put(score, Integer.toString(score));
         }
     }
 
-    private BitmapFont font; // TODO: use TTF
-
     private SpriteBatch batch;
     private GameScreenLogic gameScreenLogic;
-    private OrthographicCamera camera;
 
-    private Pool<ScoreItem> scoreItemPool;
-    private Array<ScoreItem> scoreItems;
+    // Positions in pixels, x along the level, y up from the bottom of the screen
+    private float[] x = new float[32];
+    private float[] y = new float[32];
+    private float[] life = new float[32];
+    private String[] text = new String[32];
+    private int count;
 
     private float RATIO;
 
@@ -61,56 +69,71 @@ public class ScoreIndicator implements Disposable {
         this.batch = batch;
 
         RATIO = Constants.WINDOW_WIDTH / Constants.V_WIDTH;
-
-        camera = new OrthographicCamera(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
-        camera.position.set(gameScreenLogic.getCamera().position.x * RATIO, Constants.WINDOW_HEIGHT / 2, 0);
-
-        font = Assets.instance.fonts.textFontSmall;
-        font.getData().setScale(0.6f);
-
-        scoreItemPool = new Pool<ScoreItem>() {
-            @Override
-            protected ScoreItem newObject() {
-                return new ScoreItem();
-            }
-        };
-
-        scoreItems = new Array<ScoreItem>();
-
     }
 
     public void addScoreItem(float x, float y, int score) {
-        ScoreItem scoreItem = scoreItemPool.obtain();
-        scoreItem.init(x * RATIO, (y + 1.25f) * RATIO, score);
-        scoreItems.add(scoreItem);
+        if (count == life.length) grow();
+        this.x[count] = x * RATIO;
+        this.y[count] = (y + 1.25f) * RATIO;
+        life[count] = LIFE;
+        text[count] = scoreText(score);
+        count++;
+    }
+
+    private static String scoreText(int score) {
+        String s = SCORE_TEXT.get(score);
+        return s != null ? s : Integer.toString(score);
+    }
 
+    private void grow() {
+        int capacity = life.length * 2;
+        float[] newX = new float[capacity];
+        float[] newY = new float[capacity];
+        float[] newLife = new float[capacity];
+        String[] newText = new String[capacity];
+        System.arraycopy(x, 0, newX, 0, count);
+        System.arraycopy(y, 0, newY, 0, count);
+        System.arraycopy(life, 0, newLife, 0, count);
+        System.arraycopy(text, 0, newText, 0, count);
+        x = newX;
+        y = newY;
+        life = newLife;
+        text = newText;
     }
 
     public void update(float delta) {
-        for (int i = 0; i < scoreItems.size; i++) {
-            scoreItems.get(i).life -= delta;
-            scoreItems.get(i).y += 1.2;
-            if (scoreItems.get(i).life < 0) {
-                scoreItemPool.free(scoreItems.get(i));
-                scoreItems.removeIndex(i);
+        for (int i = count; --i >= 0;) {
+            life[i] -= delta;
+            y[i] += RISE_SPEED * delta;
+            if (life[i] < 0) {
+                // swap the last item in, it has been updated already
+                count--;
+                x[i] = x[count];
+                y[i] = y[count];
+                life[i] = life[count];
+                text[i] = text[count];
+                text[count] = null;
             }
         }
     }
 
+    /** Draws with the GUI camera, which renderGui has already set on the batch. */
     public void draw() {
-        camera.position.x = gameScreenLogic.getCamera().position.x * RATIO;
-        camera.update();
-
-        batch.setProjectionMatrix(camera.combined);
-        for (ScoreItem scoreItem : scoreItems) {
-            font.draw(batch, scoreItem.score, scoreItem.x, scoreItem.y);
+        if (count == 0) return;
+        OrthographicCamera cameraGUI = gameScreenLogic.getCameraGUI();
+        float offsetX = cameraGUI.viewportWidth / 2 - gameScreenLogic.getCamera().position.x * RATIO;
+        float right = cameraGUI.viewportWidth + CULL_MARGIN;
+        // The font is shared with the HUD, leave its scale as it was
+        BitmapFont font = Assets.instance.fonts.textFontSmall;
+        float scaleX = font.getScaleX();
+        float scaleY = font.getScaleY();
+        font.getData().setScale(FONT_SCALE);
+        for (int i = 0; i < count; i++) {
+            float guiX = x[i] + offsetX;
+            if (guiX < -CULL_MARGIN || guiX > right) continue;
+            // the GUI camera is y-down
+            font.draw(batch, text[i], guiX, Constants.WINDOW_HEIGHT - y[i]);
         }
-
-    }
-
-
-    @Override
-    public void dispose() {
-        font.dispose();
+        font.getData().setScale(scaleX, scaleY);
     }
 }
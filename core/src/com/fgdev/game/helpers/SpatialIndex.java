@@ -0,0 +1,73 @@
+package com.fgdev.game.helpers;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Broad phase over entities for side scrolling maps: the level is cut into
+ * uniform buckets along x and every entity sits in the bucket of its centre.
+ * Entities are added when they spawn, removed when they are freed and only
+ * change bucket when they cross a bucket edge, a query reads just the buckets
+ * its range reaches.
+ */
+public class SpatialIndex<T> {
+
+    private final float bucketWidth;
+    // How far an entity reaches from its centre, queries widen by it
+    private final float reach;
+    private final Array<T>[] buckets;
+    // Bucket each entity is in
+    private final ObjectIntMap<T> bucketOf = new ObjectIntMap<T>();
+    private final Array<T> result = new Array<T>(false, 64);
+
+    @SuppressWarnings("unchecked")
+    public SpatialIndex(float worldWidth, float bucketWidth, float reach) {
+        this.bucketWidth = bucketWidth;
+        this.reach = reach;
+        int count = Math.max(1, MathUtils.ceil(worldWidth / bucketWidth));
+        buckets = new Array[count];
+        for (int i = 0; i < count; i++) {
+            buckets[i] = new Array<T>(false, 16);
+        }
+    }
+
+    /** @param x centre of the entity */
+    public void add(T entity, float x) {
+        int bucket = bucketOf(x);
+        buckets[bucket].add(entity);
+        bucketOf.put(entity, bucket);
+    }
+
+    /** Moves the entity to its new centre, which only costs anything across a bucket edge. */
+    public void move(T entity, float x) {
+        int bucket = bucketOf(x);
+        int old = bucketOf.get(entity, -1);
+        if (old == bucket) return;
+        if (old != -1) buckets[old].removeValue(entity, true);
+        buckets[bucket].add(entity);
+        bucketOf.put(entity, bucket);
+    }
+
+    public void remove(T entity) {
+        int old = bucketOf.remove(entity, -1);
+        if (old != -1) buckets[old].removeValue(entity, true);
+    }
+
+    /**
+     * Entities that may overlap [left, right] on x, the caller tests their
+     * bounds. The returned array is reused by the next query.
+     */
+    public Array<T> query(float left, float right) {
+        result.clear();
+        int last = bucketOf(right + reach);
+        for (int i = bucketOf(left - reach); i <= last; i++) {
+            result.addAll(buckets[i]);
+        }
+        return result;
+    }
+
+    private int bucketOf(float x) {
+        return MathUtils.clamp((int) (x / bucketWidth), 0, buckets.length - 1);
+    }
+}
@@ -0,0 +1,278 @@
+package com.fgdev.game.helpers;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.fgdev.game.utils.BodyFactory;
+
+import java.io.IOException;
+
+import static com.fgdev.game.Constants.PPM;
+
+/**
+ * Static map rectangles of one category compiled into as few fixtures as
+ * possible. Rectangles that touch are merged: a union that is itself a
+ * rectangle becomes one box, any other union becomes boxes cut in horizontal
+ * strips when that takes fewer than the map's own rectangles. A lone
+ * rectangle stays a box and a rectangle without width or height becomes an
+ * edge.
+ *
+ * Strips never split a floor between two boxes, so there is no seam to snag
+ * on. An outline of ChainShape segments would need about two segments per
+ * step of a union where strips need one box, so chains are not used.
+ */
+public class StaticGeometry {
+
+    // cx, cy, hx, hy in meters
+    private final FloatArray boxes = new FloatArray();
+    // x1, y1, x2, y2 in meters
+    private final FloatArray edges = new FloatArray();
+    private int rectCount;
+    private int proxyCount;
+    private float left = Float.MAX_VALUE;
+    private float right;
+
+    /**
+     * @param rects map rectangles in pixels, snapped to whole pixels so that
+     *              rectangles a fraction of a pixel apart still merge
+     */
+    public StaticGeometry(Array<Rectangle> rects) {
+        rectCount = rects.size;
+        int[] x0 = new int[rects.size];
+        int[] y0 = new int[rects.size];
+        int[] x1 = new int[rects.size];
+        int[] y1 = new int[rects.size];
+        snap(rects, x0, y0, x1, y1);
+        IntArray solid = new IntArray();
+        for (int i = 0; i < rects.size; i++) {
+            left = Math.min(left, x0[i] / PPM);
+            right = Math.max(right, x1[i] / PPM);
+            if (x0[i] == x1[i] && y0[i] == y1[i]) continue;
+            if (x0[i] == x1[i] || y0[i] == y1[i]) {
+                edges.addAll(x0[i] / PPM, y0[i] / PPM, x1[i] / PPM, y1[i] / PPM);
+                continue;
+            }
+            solid.add(i);
+        }
+
+        int[] group = group(x0, y0, x1, y1);
+        IntArray component = new IntArray();
+        boolean[] done = new boolean[rects.size];
+        for (int a = 0; a < solid.size; a++) {
+            int root = group[solid.get(a)];
+            if (done[root]) continue;
+            done[root] = true;
+            component.clear();
+            for (int b = a; b < solid.size; b++) {
+                if (group[solid.get(b)] == root) component.add(solid.get(b));
+            }
+            if (component.size == 1) {
+                addBox(x0[root], y0[root], x1[root], y1[root]);
+            } else {
+                compileComponent(component, x0, y0, x1, y1);
+            }
+        }
+
+        proxyCount = boxes.size / 4 + edges.size / 4;
+    }
+
+    /** Reads geometry compiled earlier, see {@link #write}. */
+    public StaticGeometry(DataInput in) throws IOException {
+        rectCount = in.readInt(true);
+        proxyCount = in.readInt(true);
+        left = in.readFloat();
+        right = in.readFloat();
+        readFloats(in, boxes);
+        readFloats(in, edges);
+    }
+
+    public void write(DataOutput out) throws IOException {
+        out.writeInt(rectCount, true);
+        out.writeInt(proxyCount, true);
+        out.writeFloat(left);
+        out.writeFloat(right);
+        writeFloats(out, boxes.items, boxes.size);
+        writeFloats(out, edges.items, edges.size);
+    }
+
+    private static void readFloats(DataInput in, FloatArray out) throws IOException {
+        int count = in.readInt(true);
+        out.ensureCapacity(count);
+        for (int i = 0; i < count; i++) out.add(in.readFloat());
+    }
+
+    private static void writeFloats(DataOutput out, float[] values, int count) throws IOException {
+        out.writeInt(count, true);
+        for (int i = 0; i < count; i++) out.writeFloat(values[i]);
+    }
+
+    /**
+     * Group of each map rectangle, the index of one rectangle in it.
+     * Rectangles sharing more than a corner are in the same group, one
+     * without width or height is alone.
+     */
+    static int[] group(Array<Rectangle> rects) {
+        int[] x0 = new int[rects.size];
+        int[] y0 = new int[rects.size];
+        int[] x1 = new int[rects.size];
+        int[] y1 = new int[rects.size];
+        snap(rects, x0, y0, x1, y1);
+        return group(x0, y0, x1, y1);
+    }
+
+    private static int[] group(int[] x0, int[] y0, int[] x1, int[] y1) {
+        int[] parent = new int[x0.length];
+        for (int i = 0; i < parent.length; i++) parent[i] = i;
+        for (int i = 0; i < parent.length; i++) {
+            if (x0[i] == x1[i] || y0[i] == y1[i]) continue;
+            for (int j = i + 1; j < parent.length; j++) {
+                if (x0[j] == x1[j] || y0[j] == y1[j]) continue;
+                int overlapX = Math.min(x1[i], x1[j]) - Math.max(x0[i], x0[j]);
+                int overlapY = Math.min(y1[i], y1[j]) - Math.max(y0[i], y0[j]);
+                if (overlapX >= 0 && overlapY >= 0 && (overlapX > 0 || overlapY > 0))
+                    parent[find(parent, i)] = find(parent, j);
+            }
+        }
+        for (int i = 0; i < parent.length; i++) parent[i] = find(parent, i);
+        return parent;
+    }
+
+    private static void snap(Array<Rectangle> rects, int[] x0, int[] y0, int[] x1, int[] y1) {
+        for (int i = 0; i < rects.size; i++) {
+            Rectangle rect = rects.get(i);
+            x0[i] = Math.round(rect.x);
+            y0[i] = Math.round(rect.y);
+            x1[i] = Math.round(rect.x + rect.width);
+            y1[i] = Math.round(rect.y + rect.height);
+        }
+    }
+
+    private void compileComponent(IntArray component, int[] x0, int[] y0, int[] x1, int[] y1) {
+        // Compress the coordinates into a grid and fill the covered cells
+        IntArray xs = new IntArray();
+        IntArray ys = new IntArray();
+        for (int k = 0; k < component.size; k++) {
+            int i = component.get(k);
+            addUnique(xs, x0[i]);
+            addUnique(xs, x1[i]);
+            addUnique(ys, y0[i]);
+            addUnique(ys, y1[i]);
+        }
+        xs.sort();
+        ys.sort();
+        int columns = xs.size - 1;
+        int rows = ys.size - 1;
+        boolean[][] cells = new boolean[columns][rows];
+        int filled = 0;
+        for (int k = 0; k < component.size; k++) {
+            int i = component.get(k);
+            for (int cx = xs.indexOf(x0[i]), endX = xs.indexOf(x1[i]); cx < endX; cx++) {
+                for (int cy = ys.indexOf(y0[i]), endY = ys.indexOf(y1[i]); cy < endY; cy++) {
+                    if (!cells[cx][cy]) {
+                        cells[cx][cy] = true;
+                        filled++;
+                    }
+                }
+            }
+        }
+
+        if (filled == columns * rows) {
+            addBox(xs.get(0), ys.get(0), xs.peek(), ys.peek());
+            return;
+        }
+
+        // Hand drawn maps often overlap their rectangles, where the strips
+        // can outnumber the rectangles
+        IntArray strips = strips(cells, columns, rows);
+        int stripCount = strips.size / 4;
+        if (stripCount <= component.size) {
+            for (int i = 0; i < strips.size; i += 4) {
+                addBox(xs.get(strips.get(i)), ys.get(strips.get(i + 1)), xs.get(strips.get(i + 2)), ys.get(strips.get(i + 3)));
+            }
+        } else {
+            for (int k = 0; k < component.size; k++) {
+                int i = component.get(k);
+                addBox(x0[i], y0[i], x1[i], y1[i]);
+            }
+        }
+    }
+
+    // Maximal runs of filled cells per row, carried up while the row above has
+    // the very same run. A floor is never split between two boxes this way.
+    private static IntArray strips(boolean[][] cells, int columns, int rows) {
+        IntArray strips = new IntArray();
+        IntArray open = new IntArray();
+        IntArray runs = new IntArray();
+        for (int cy = 0; cy <= rows; cy++) {
+            runs.clear();
+            for (int cx = 0; cy < rows && cx < columns; cx++) {
+                if (!cells[cx][cy]) continue;
+                int first = cx;
+                while (cx < columns && cells[cx][cy]) cx++;
+                runs.addAll(first, cx, cy);
+            }
+            for (int i = 0; i < open.size; i += 3) {
+                int j = 0;
+                while (j < runs.size && (runs.get(j) != open.get(i) || runs.get(j + 1) != open.get(i + 1))) j += 3;
+                if (j < runs.size) {
+                    runs.set(j + 2, open.get(i + 2));
+                } else {
+                    strips.addAll(open.get(i), open.get(i + 2), open.get(i + 1), cy);
+                }
+            }
+            open.clear();
+            open.addAll(runs);
+        }
+        return strips;
+    }
+
+    private void addBox(int x0, int y0, int x1, int y1) {
+        boxes.addAll((x0 + x1) / 2f / PPM, (y0 + y1) / 2f / PPM, (x1 - x0) / 2f / PPM, (y1 - y0) / 2f / PPM);
+    }
+
+    /** Adds the compiled fixtures to a static body. */
+    public void createFixtures(BodyFactory bodyFactory, Body body, int material, Object object) {
+        for (int i = 0; i < boxes.size; i += 4) {
+            bodyFactory.makeBoxFixture(body, boxes.get(i), boxes.get(i + 1), boxes.get(i + 2), boxes.get(i + 3), material, object);
+        }
+        for (int i = 0; i < edges.size; i += 4) {
+            bodyFactory.makeEdgeFixture(body, edges.get(i), edges.get(i + 1), edges.get(i + 2), edges.get(i + 3), material, object);
+        }
+    }
+
+    /** Map rectangles that went in. */
+    public int getRectCount() {
+        return rectCount;
+    }
+
+    /** Broad-phase proxies the fixtures will take, one per box or edge. */
+    public int getProxyCount() {
+        return proxyCount;
+    }
+
+    /** Left-most x of the geometry in meters. */
+    public float getLeft() {
+        return left;
+    }
+
+    /** Right-most x of the geometry in meters. */
+    public float getRight() {
+        return right;
+    }
+
+    private static void addUnique(IntArray values, int value) {
+        if (!values.contains(value)) values.add(value);
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+}
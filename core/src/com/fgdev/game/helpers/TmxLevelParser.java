@@ -0,0 +1,112 @@
+package com.fgdev.game.helpers;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.EllipseMapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.XmlReader;
+
+/**
+ * Reads a tmx map into {@link LevelData} without loading any texture, so it
+ * runs offline in the converter as well as in the game when a level has no
+ * binary file. Objects come out the way TmxMapLoader makes them: y up, and
+ * only the first object group of a name counts.
+ */
+public class TmxLevelParser {
+
+    /**
+     * @param tmxFile the map
+     * @param mapPath asset path of the map, tileset images are resolved against it
+     */
+    public static LevelData parse(FileHandle tmxFile, String mapPath) {
+        XmlReader.Element root = new XmlReader().parse(tmxFile);
+        LevelData level = new LevelData(mapPath, root.getIntAttribute("width"), root.getIntAttribute("height"),
+                root.getIntAttribute("tilewidth"), root.getIntAttribute("tileheight"));
+
+        for (XmlReader.Element tileset : root.getChildrenByName("tileset")) {
+            XmlReader.Element image = tileset.getChildByName("image");
+            if (image == null)
+                throw new GdxRuntimeException(mapPath + ": only embedded single image tilesets are supported");
+            level.tilesets.add(new LevelData.Tileset(tileset.getAttribute("name", ""),
+                    resolve(mapPath, image.getAttribute("source")),
+                    tileset.getIntAttribute("firstgid", 1),
+                    tileset.getIntAttribute("tilewidth", 0), tileset.getIntAttribute("tileheight", 0),
+                    tileset.getIntAttribute("spacing", 0), tileset.getIntAttribute("margin", 0)));
+        }
+
+        for (XmlReader.Element element : root.getChildrenByName("layer")) {
+            int width = element.getIntAttribute("width", 0);
+            int height = element.getIntAttribute("height", 0);
+            LevelData.TileLayer layer = new LevelData.TileLayer(element.getAttribute("name", ""),
+                    element.getIntAttribute("visible", 1) == 1, element.getFloatAttribute("opacity", 1.0f),
+                    element.getFloatAttribute("offsetx", 0), element.getFloatAttribute("offsety", 0),
+                    width, height);
+            int[] ids = TmxMapLoader.getTileIds(element, width, height);
+            System.arraycopy(ids, 0, layer.gids, 0, layer.gids.length);
+            level.tileLayers.add(layer);
+        }
+
+        float heightInPixels = level.height * level.tileHeight;
+        boolean[] seen = new boolean[B2WorldCreator.LAYERS.length];
+        for (XmlReader.Element group : root.getChildrenByName("objectgroup")) {
+            int kind = kindOf(group.getAttribute("name", ""));
+            if (kind < 0 || seen[kind]) continue;
+            seen[kind] = true;
+            for (XmlReader.Element element : group.getChildrenByName("object")) {
+                float width = element.getFloatAttribute("width", 0);
+                float height = element.getFloatAttribute("height", 0);
+                float x = element.getFloatAttribute("x", 0);
+                float y = heightInPixels - element.getFloatAttribute("y", 0) - height;
+                boolean ellipse = element.getChildByName("ellipse") != null;
+                // B2WorldCreator takes coins as ellipses and everything else as rectangles
+                if (ellipse != (kind == B2WorldCreator.COINS)) continue;
+                MapObject object = ellipse
+                        ? new EllipseMapObject(x, y, width, height)
+                        : new RectangleMapObject(x, y, width, height);
+                XmlReader.Element properties = element.getChildByName("properties");
+                if (properties != null) {
+                    for (XmlReader.Element property : properties.getChildrenByName("property")) {
+                        String name = property.getAttribute("name", "");
+                        if (("type".equals(name) || "level".equals(name))
+                                && "int".equals(property.getAttribute("type", null))) {
+                            object.getProperties().put(name, Integer.valueOf(property.getAttribute("value")));
+                        }
+                    }
+                }
+                level.addObject(kind, object);
+            }
+        }
+        level.compile();
+        return level;
+    }
+
+    private static int kindOf(String layer) {
+        for (int kind = 0; kind < B2WorldCreator.LAYERS.length; kind++) {
+            if (B2WorldCreator.LAYERS[kind].equals(layer)) return kind;
+        }
+        return -1;
+    }
+
+    // "levels/map/1/map1.tmx" and "../../tilesets/object.png" make "levels/tilesets/object.png"
+    private static String resolve(String mapPath, String source) {
+        Array<String> parts = new Array<String>(mapPath.replace('\\', '/').split("/"));
+        parts.pop();
+        for (String part : source.replace('\\', '/').split("/")) {
+            if ("..".equals(part)) {
+                if (parts.size == 0) throw new GdxRuntimeException("Tileset outside the assets: " + source);
+                parts.pop();
+            } else if (part.length() > 0 && !".".equals(part)) {
+                parts.add(part);
+            }
+        }
+        StringBuilder path = new StringBuilder();
+        for (int i = 0; i < parts.size; i++) {
+            if (i > 0) path.append('/');
+            path.append(parts.get(i));
+        }
+        return path.toString();
+    }
+}
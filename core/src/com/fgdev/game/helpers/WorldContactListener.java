@@ -13,149 +13,218 @@ import com.fgdev.game.entitiles.tiles.platform.Spike;
 
 import static com.fgdev.game.Constants.*;
 
+/**
+ * Looks up the handler for a contact by the OR of both category bits. While
+ * the world steps, contacts are only recorded and get handled together in
+ * {@link #endStep()}, so handlers are free to create and destroy bodies.
+ * Contacts reported outside a step (destroyBody, setActive) are handled
+ * straight away.
+ */
 public class WorldContactListener implements ContactListener {
 
+    // Category bits stay below LADDER_BIT << 1, the pair fits in the table
+    private static final int TABLE_SIZE = LADDER_BIT << 1;
+
+    private final ContactHandler[] handlers = new ContactHandler[TABLE_SIZE];
+
+    // Contacts recorded during the step
+    private ContactHandler[] eventHandlers = new ContactHandler[64];
+    private Object[] eventFirsts = new Object[64];
+    private Object[] eventSeconds = new Object[64];
+    private boolean[] eventBegins = new boolean[64];
+    private int eventCount;
+    private boolean stepping;
+
     public WorldContactListener() {
         super();
+        register(new ContactHandler(PLAYER_BIT, GROUND_BIT) {
+            @Override
+            void begin(Object player, Object ground) {
+                ((Player) player).setOnGround(true);
+            }
+
+            @Override
+            void end(Object player, Object ground) {
+                ((Player) player).setOnGround(false);
+            }
+        });
+        register(new ContactHandler(ITEM_BIT, PLAYER_BIT) {
+            @Override
+            void begin(Object item, Object player) {
+                ((ItemObject) item).collected((Player) player);
+            }
+        });
+        register(new ContactHandler(CRATE_BIT, ATTACK_BIT) {
+            @Override
+            void begin(Object crate, Object attack) {
+                ((Crate) crate).destroyBox();
+            }
+        });
+        register(new ContactHandler(CRATE_BIT, KUNAI_BIT) {
+            @Override
+            void begin(Object crate, Object kunai) {
+                ((Crate) crate).destroyBox();
+                ((Bullet) kunai).setToDestroy();
+            }
+        });
+        register(new ContactHandler(CRATE_BIT, BULLET_BIT) {
+            @Override
+            void begin(Object crate, Object bullet) {
+                ((Crate) crate).setToDestroy();
+                ((Bullet) bullet).setToDestroy();
+            }
+        });
+        register(new ContactHandler(ENEMY_BIT, ATTACK_BIT) {
+            @Override
+            void begin(Object enemy, Object attack) {
+                ((Enemy) enemy).killed();
+            }
+        });
+        register(new ContactHandler(ENEMY_BIT, KUNAI_BIT) {
+            @Override
+            void begin(Object enemy, Object kunai) {
+                ((Enemy) enemy).killed();
+                ((Kunai) kunai).setToDestroy();
+            }
+        });
+        register(new ContactHandler(ENEMY_BIT, PLAYER_BIT) {
+            @Override
+            void begin(Object enemy, Object player) {
+                ((Enemy) enemy).beginAttack((Player) player);
+            }
+
+            @Override
+            void end(Object enemy, Object player) {
+                ((Enemy) enemy).endAttack((Player) player);
+            }
+        });
+        register(new ContactHandler(SPIKE_BIT, PLAYER_BIT) {
+            @Override
+            void begin(Object spike, Object player) {
+                ((Spike) spike).killPlayer((Player) player);
+            }
+        });
+        register(new ContactHandler(BULLET_BIT, PLAYER_BIT) {
+            @Override
+            void begin(Object bullet, Object player) {
+                ((Bullet) bullet).killPlayer((Player) player);
+            }
+        });
+        register(new ContactHandler(SIGN_BIT, PLAYER_BIT) {
+            @Override
+            void begin(Object sign, Object player) {
+                ((Sign) sign).savePos();
+            }
+        });
+        register(new ContactHandler(PLAYER_BIT, LADDER_BIT) {
+            @Override
+            void begin(Object player, Object ladder) {
+                ((Player) player).setOnLadder(true);
+            }
+
+            @Override
+            void end(Object player, Object ladder) {
+                ((Player) player).setOnLadder(false);
+            }
+        });
+        register(new ContactHandler(KUNAI_BIT, BULLET_BIT) {
+            @Override
+            void begin(Object kunai, Object bullet) {
+                ((Kunai) kunai).setToDestroy();
+                ((EnemyBullet) bullet).setToDestroy();
+            }
+        });
+    }
+
+    private void register(ContactHandler handler) {
+        handlers[handler.first | handler.second] = handler;
     }
 
     // called when two fixtures start to collide
     @Override
     public void beginContact(Contact contact) {
-        Fixture fixA = contact.getFixtureA();
-        Fixture fixB = contact.getFixtureB();
-
-        if (fixA == null || fixB == null) return;
-
-        int cDef = fixA.getFilterData().categoryBits | fixB.getFilterData().categoryBits;
-        switch (cDef) {
-            case  GROUND_BIT | PLAYER_BIT:
-                if (fixA.getFilterData().categoryBits == GROUND_BIT)
-                    ((Player) fixB.getUserData()).setOnGround(true);
-                else if ((fixB.getFilterData().categoryBits == PLAYER_BIT))
-                    ((Player) fixA.getUserData()).setOnGround(true);
-                break;
-            case  PLAYER_BIT | ITEM_BIT:
-                if (fixA.getFilterData().categoryBits == PLAYER_BIT)
-                    ((ItemObject) fixB.getUserData()).collected((Player) fixA.getUserData());
-                else if ((fixB.getFilterData().categoryBits == PLAYER_BIT))
-                    ((ItemObject) fixA.getUserData()).collected((Player) fixB.getUserData());
-                break;
-            case  ATTACK_BIT | CRATE_BIT:
-                if (fixA.getFilterData().categoryBits == ATTACK_BIT)
-                    ((Crate) fixB.getUserData()).destroyBox();
-                else if ((fixB.getFilterData().categoryBits == ATTACK_BIT))
-                    ((Crate) fixA.getUserData()).destroyBox();
-                break;
-            case  KUNAI_BIT | CRATE_BIT:
-                if (fixA.getFilterData().categoryBits == KUNAI_BIT)
-                    ((Crate) fixB.getUserData()).destroyBox();
-                else if ((fixB.getFilterData().categoryBits == KUNAI_BIT))
-                    ((Crate) fixA.getUserData()).destroyBox();
-                if (fixA.getFilterData().categoryBits == CRATE_BIT)
-                    ((Bullet) fixB.getUserData()).setToDestroy();
-                else if (fixB.getFilterData().categoryBits == CRATE_BIT)
-                    ((Bullet) fixA.getUserData()).setToDestroy();
-                break;
-            case  BULLET_BIT | CRATE_BIT:
-                if (fixA.getFilterData().categoryBits == BULLET_BIT)
-                    ((Crate) fixB.getUserData()).setToDestroy();
-                else if ((fixB.getFilterData().categoryBits == BULLET_BIT))
-                    ((Crate) fixA.getUserData()).setToDestroy();
-                if (fixA.getFilterData().categoryBits == CRATE_BIT)
-                    ((Bullet) fixB.getUserData()).setToDestroy();
-                else if (fixB.getFilterData().categoryBits == CRATE_BIT)
-                    ((Bullet) fixA.getUserData()).setToDestroy();
-                break;
-            case  ATTACK_BIT | ENEMY_BIT:
-                if (fixA.getFilterData().categoryBits == ATTACK_BIT)
-                    ((Enemy) fixB.getUserData()).killed();
-                else if ((fixB.getFilterData().categoryBits == ATTACK_BIT))
-                    ((Enemy) fixA.getUserData()).killed();
-                break;
-            case  KUNAI_BIT | ENEMY_BIT:
-                if (fixA.getFilterData().categoryBits == KUNAI_BIT)
-                    ((Enemy) fixB.getUserData()).killed();
-                else if ((fixB.getFilterData().categoryBits == KUNAI_BIT))
-                    ((Enemy) fixA.getUserData()).killed();
-                if (fixA.getFilterData().categoryBits != KUNAI_BIT)
-                    ((Kunai) fixB.getUserData()).setToDestroy();
-                else if (fixB.getFilterData().categoryBits != KUNAI_BIT)
-                    ((Kunai) fixA.getUserData()).setToDestroy();
-                break;
-            case  PLAYER_BIT | ENEMY_BIT:
-                if (fixA.getFilterData().categoryBits == PLAYER_BIT)
-                    ((Enemy) fixB.getUserData()).beginAttack((Player) fixA.getUserData());
-                else if ((fixB.getFilterData().categoryBits == PLAYER_BIT))
-                    ((Enemy) fixA.getUserData()).beginAttack((Player) fixB.getUserData());
-                break;
-            case  PLAYER_BIT | SPIKE_BIT:
-                if (fixA.getFilterData().categoryBits == PLAYER_BIT)
-                    ((Spike) fixB.getUserData()).killPlayer((Player) fixA.getUserData());
-                else if ((fixB.getFilterData().categoryBits == PLAYER_BIT))
-                    ((Spike) fixA.getUserData()).killPlayer((Player) fixB.getUserData());
-                break;
-            case  PLAYER_BIT | BULLET_BIT:
-                if (fixA.getFilterData().categoryBits == PLAYER_BIT)
-                    ((Bullet) fixB.getUserData()).killPlayer((Player) fixA.getUserData());
-                else if ((fixB.getFilterData().categoryBits == PLAYER_BIT))
-                    ((Bullet) fixA.getUserData()).killPlayer((Player) fixB.getUserData());
-                break;
-            case  PLAYER_BIT | SIGN_BIT:
-                if (fixA.getFilterData().categoryBits == PLAYER_BIT)
-                    ((Sign) fixB.getUserData()).savePos();
-                else if ((fixB.getFilterData().categoryBits == PLAYER_BIT))
-                    ((Sign) fixA.getUserData()).savePos();
-                break;
-            case  PLAYER_BIT | LADDER_BIT:
-                if (fixA.getFilterData().categoryBits == LADDER_BIT)
-                    ((Player) fixB.getUserData()).setOnLadder(true);
-                else if ((fixB.getFilterData().categoryBits == LADDER_BIT))
-                    ((Player) fixA.getUserData()).setOnLadder(true);
-                break;
-            case  BULLET_BIT | KUNAI_BIT:
-                if (fixA.getFilterData().categoryBits == BULLET_BIT)
-                    ((Kunai) fixB.getUserData()).setToDestroy();
-                else if ((fixB.getFilterData().categoryBits == BULLET_BIT))
-                    ((Kunai) fixA.getUserData()).setToDestroy();
-                if (fixA.getFilterData().categoryBits == KUNAI_BIT)
-                    ((EnemyBullet) fixB.getUserData()).setToDestroy();
-                else if (fixB.getFilterData().categoryBits == KUNAI_BIT)
-                    ((EnemyBullet) fixA.getUserData()).setToDestroy();
-                break;
-        }
+        dispatch(contact, true);
     }
 
     // called when two fixtures no longer collide
     @Override
     public void endContact(Contact contact) {
+        dispatch(contact, false);
+    }
+
+    private void dispatch(Contact contact, boolean begin) {
         Fixture fixA = contact.getFixtureA();
         Fixture fixB = contact.getFixtureB();
 
         if (fixA == null || fixB == null) return;
 
-        int cDef = fixA.getFilterData().categoryBits | fixB.getFilterData().categoryBits;
-
-        switch (cDef) {
-            case  GROUND_BIT | PLAYER_BIT:
-                if (fixA.getFilterData().categoryBits == GROUND_BIT)
-                    ((Player) fixB.getUserData()).setOnGround(false);
-                else if ((fixB.getFilterData().categoryBits == PLAYER_BIT))
-                    ((Player) fixA.getUserData()).setOnGround(false);
-                break;
-            case  PLAYER_BIT | ENEMY_BIT:
-                if (fixA.getFilterData().categoryBits == PLAYER_BIT)
-                    ((Enemy) fixB.getUserData()).endAttack((Player) fixA.getUserData());
-                else if ((fixB.getFilterData().categoryBits == PLAYER_BIT))
-                    ((Enemy) fixA.getUserData()).endAttack((Player) fixB.getUserData());
-                break;
-            case  PLAYER_BIT | LADDER_BIT:
-                if (fixA.getFilterData().categoryBits == LADDER_BIT)
-                    ((Player) fixB.getUserData()).setOnLadder(false);
-                else if ((fixB.getFilterData().categoryBits == LADDER_BIT))
-                    ((Player) fixA.getUserData()).setOnLadder(false);
-                break;
+        // One trip through JNI per fixture
+        int categoryA = fixA.getFilterData().categoryBits;
+        int categoryB = fixB.getFilterData().categoryBits;
+        int cDef = categoryA | categoryB;
+        // Hidden walls are in every category and have no handler
+        if (cDef < 0 || cDef >= TABLE_SIZE) return;
+        ContactHandler handler = handlers[cDef];
+        if (handler == null) return;
+
+        Object first;
+        Object second;
+        if (categoryA == handler.first) {
+            first = fixA.getUserData();
+            second = fixB.getUserData();
+        } else {
+            first = fixB.getUserData();
+            second = fixA.getUserData();
         }
+        if (stepping) {
+            record(handler, first, second, begin);
+        } else if (begin) {
+            handler.begin(first, second);
+        } else {
+            handler.end(first, second);
+        }
+    }
+
+    private void record(ContactHandler handler, Object first, Object second, boolean begin) {
+        if (eventCount == eventHandlers.length) {
+            int size = eventCount * 2;
+            ContactHandler[] handlers = new ContactHandler[size];
+            Object[] firsts = new Object[size];
+            Object[] seconds = new Object[size];
+            boolean[] begins = new boolean[size];
+            System.arraycopy(eventHandlers, 0, handlers, 0, eventCount);
+            System.arraycopy(eventFirsts, 0, firsts, 0, eventCount);
+            System.arraycopy(eventSeconds, 0, seconds, 0, eventCount);
+            System.arraycopy(eventBegins, 0, begins, 0, eventCount);
+            eventHandlers = handlers;
+            eventFirsts = firsts;
+            eventSeconds = seconds;
+            eventBegins = begins;
+        }
+        eventHandlers[eventCount] = handler;
+        eventFirsts[eventCount] = first;
+        eventSeconds[eventCount] = second;
+        eventBegins[eventCount] = begin;
+        eventCount++;
+    }
+
+    /** Call right before world.step, contacts are recorded until {@link #endStep()}. */
+    public void beginStep() {
+        stepping = true;
+    }
+
+    /** Call right after world.step, handles the contacts recorded in the order they came. */
+    public void endStep() {
+        stepping = false;
+        for (int i = 0; i < eventCount; i++) {
+            if (eventBegins[i])
+                eventHandlers[i].begin(eventFirsts[i], eventSeconds[i]);
+            else
+                eventHandlers[i].end(eventFirsts[i], eventSeconds[i]);
+            eventFirsts[i] = null;
+            eventSeconds[i] = null;
+        }
+        eventCount = 0;
     }
 
     // collision detection
@@ -171,4 +240,24 @@ public class WorldContactListener implements ContactListener {
     public void postSolve(Contact contact, ContactImpulse impulse) {
 
     }
+
+    /**
+     * Reaction to one pair of categories. User data is passed in the order the
+     * categories were given, whichever fixture Box2D put first.
+     */
+    abstract static class ContactHandler {
+        final int first;
+        final int second;
+
+        ContactHandler(int first, int second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        void begin(Object first, Object second) {
+        }
+
+        void end(Object first, Object second) {
+        }
+    }
 }
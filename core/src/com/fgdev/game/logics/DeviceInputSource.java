@@ -0,0 +1,26 @@
+package com.fgdev.game.logics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.fgdev.game.screens.JoystickOverlay;
+
+public class DeviceInputSource implements InputSource {
+
+    private JoystickOverlay joystickOverlay;
+
+    public DeviceInputSource(JoystickOverlay joystickOverlay) {
+        this.joystickOverlay = joystickOverlay;
+    }
+
+    @Override
+    public void poll(PlayerInput input) {
+        input.left = Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT) || joystickOverlay.isLeftPressed();
+        input.right = Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT) || joystickOverlay.isRightPressed();
+        input.jump = Gdx.input.isKeyPressed(Input.Keys.W) || Gdx.input.isKeyPressed(Input.Keys.UP) || joystickOverlay.isUpPressed();
+        input.down = Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN) || joystickOverlay.isDownPressed();
+        input.attack = Gdx.input.isKeyJustPressed(Input.Keys.Q) || joystickOverlay.isMeleePressed();
+        input.attackThrow = Gdx.input.isKeyJustPressed(Input.Keys.E) || joystickOverlay.isThrowPressed();
+        input.climb = Gdx.input.isKeyPressed(Input.Keys.X) || joystickOverlay.isClimPressed();
+        input.jumpThrow = Gdx.input.isKeyJustPressed(Input.Keys.C) || joystickOverlay.isJumpThrowPressed();
+    }
+}
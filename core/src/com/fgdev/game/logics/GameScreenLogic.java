@@ -3,16 +3,18 @@ package com.fgdev.game.logics;
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.TimeUtils;
@@ -20,24 +22,19 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.fgdev.game.Constants;
 import com.fgdev.game.entitiles.Player;
-import com.fgdev.game.entitiles.enemies.AdventureGirl;
-import com.fgdev.game.entitiles.enemies.Bone;
-import com.fgdev.game.entitiles.enemies.Dino;
+import com.fgdev.game.entitiles.bullets.ProjectileManager;
 import com.fgdev.game.entitiles.enemies.Enemy;
-import com.fgdev.game.entitiles.enemies.Ghost;
-import com.fgdev.game.entitiles.enemies.Knight;
-import com.fgdev.game.entitiles.enemies.Robot;
-import com.fgdev.game.entitiles.enemies.Santa;
-import com.fgdev.game.entitiles.enemies.Zombie;
+import com.fgdev.game.entitiles.enemies.EnemyProbeService;
 import com.fgdev.game.entitiles.objects.Clouds;
 import com.fgdev.game.entitiles.tiles.box.BoxObject;
-import com.fgdev.game.entitiles.tiles.box.Crate;
-import com.fgdev.game.entitiles.tiles.item.Coin;
-import com.fgdev.game.entitiles.tiles.item.Feather;
 import com.fgdev.game.entitiles.tiles.item.ItemObject;
 import com.fgdev.game.helpers.B2WorldCreator;
-import com.fgdev.game.helpers.BackgroundTiledMapRenderer;
+import com.fgdev.game.helpers.CachedTiledMapRenderer;
+import com.fgdev.game.helpers.CachingTmxMapLoader;
+import com.fgdev.game.helpers.EntityRegistry;
+import com.fgdev.game.helpers.LevelData;
 import com.fgdev.game.helpers.ScoreIndicator;
+import com.fgdev.game.helpers.SpatialIndex;
 import com.fgdev.game.helpers.WorldContactListener;
 import com.fgdev.game.screens.DirectedGame;
 import com.fgdev.game.screens.GameOverOverlay;
@@ -46,10 +43,15 @@ import com.fgdev.game.screens.LevelStartScreen;
 import com.fgdev.game.screens.MenuScreen;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.AudioManager;
+import com.fgdev.game.utils.GameProfiler;
 import com.fgdev.game.utils.GamePreferences;
+import com.fgdev.game.utils.HudText;
+import com.fgdev.game.utils.Trace;
 import com.fgdev.game.utils.ValueManager;
 
 import static com.fgdev.game.Constants.GRAVITY;
+import static com.fgdev.game.Constants.MAX_FRAME_TIME;
+import static com.fgdev.game.Constants.MAX_SUB_STEPS;
 import static com.fgdev.game.Constants.POSITION_ITERATIONS;
 import static com.fgdev.game.Constants.PPM;
 import static com.fgdev.game.Constants.STEP_TIME;
@@ -61,13 +63,19 @@ public class GameScreenLogic implements Disposable {
 
     private static final String TAG = GameScreenLogic.class.getName();
 
+    // Slack around the view for camera lag
+    private static final float CULL_MARGIN = 3f;
+    // See initStep
+    private static final int INIT_STAGES = 7;
+
     private DirectedGame game;
 
     private World world;
     // Tiled map_old variables
-    private TmxMapLoader mapLoader;
+    private CachingTmxMapLoader mapLoader;
     private TiledMap map;
-    private BackgroundTiledMapRenderer renderer;
+    private LevelData level;
+    private CachedTiledMapRenderer renderer;
     // Camera & Batch
     private OrthographicCamera camera;
     private OrthographicCamera cameraGUI;
@@ -78,6 +86,9 @@ public class GameScreenLogic implements Disposable {
     // Box2d variables
     private Box2DDebugRenderer b2dr;
     private B2WorldCreator creator;
+    private EnemyProbeService enemyProbes;
+    private ProjectileManager projectiles;
+    private WorldContactListener contactListener;
     // Objects
     private Player player;
     // Decoration
@@ -100,30 +111,101 @@ public class GameScreenLogic implements Disposable {
     private boolean isCheckNextLevel;
     private boolean isCheckFallWater;
     private boolean isCheckGameOver;
+    // Culling
+    private int drawnCount;
+    private int culledCount;
+    private int animationCulledCount;
+    private final GameProfiler profiler = GameProfiler.instance;
+    private final Trace trace = Trace.instance;
+    // HUD counters, laid out again only when they change
+    private final HudText scoreText = new HudText();
+    private final HudText fpsText = new HudText("FPS: ");
+    private final HudText featherText = new HudText();
+    // Input
+    private InputSource inputSource;
+    private PlayerInput playerInput;
+    // What every step saw, written out when the level is left
+    private InputLog inputLog;
+    private long seed = MathUtils.random.nextLong();
+    // Headless mode skips everything that needs a GL context
+    private boolean headless;
+    private boolean finished;
+    private int initStage;
 
     public GameScreenLogic(DirectedGame game) {
+        this(game, null, false);
+    }
+
+    public GameScreenLogic(DirectedGame game, InputSource inputSource, boolean headless) {
+        this(game, inputSource, headless, false);
+    }
+
+    /**
+     * @param staged leave the init to {@link #initStep()}, called once a frame
+     *               while something else is on screen
+     */
+    public GameScreenLogic(DirectedGame game, InputSource inputSource, boolean headless, boolean staged) {
         this.game = game;
-        isDebug = GamePreferences.instance.debug;
+        this.inputSource = inputSource;
+        this.headless = headless;
+        playerInput = new PlayerInput();
+        isDebug = !headless && GamePreferences.instance.debug;
         isCheckNextLevel = true;
         isCheckFallWater = true;
         isCheckGameOver = true;
-        init();
+        if (!staged) init();
     }
 
     public void init() {
-        initCamera();
-        initMap();
-        initLevel();
-        initObject();
-
-        mapWidth = ((TiledMapTileLayer) map.getLayers().get(0)).getWidth();
-        cameraLeftLimit = V_WIDTH / 2;
-        cameraRightLimit =  mapWidth - V_WIDTH / 2;
+        while (!initStep()) {
+        }
+    }
+
+    /**
+     * Runs the next init stage, true once the level is ready to play. The
+     * stages are split around the GL uploads and the Box2D bodies, the level
+     * and its assets have to be loaded before the first one.
+     */
+    public boolean initStep() {
+        if (initStage >= INIT_STAGES) return true;
+        long start = TimeUtils.millis();
+        trace.begin(Trace.INIT_STAGE);
+        switch (initStage) {
+            case 0:
+                initCamera();
+                break;
+            case 1:
+                initWorld();
+                break;
+            case 2:
+                initMap();
+                break;
+            case 3:
+                initShader();
+                break;
+            case 4:
+                initLevel();
+                break;
+            case 5:
+                initObject();
+                break;
+            case 6:
+                initWindow();
+                break;
+        }
+        trace.end(Trace.INIT_STAGE);
+        Gdx.app.debug(TAG, "init stage " + initStage + " took " + TimeUtils.timeSinceMillis(start) + " ms");
+        initStage++;
+        return initStage == INIT_STAGES;
+    }
+
+    public boolean isInitialized() {
+        return initStage == INIT_STAGES;
     }
 
     private void initCamera() {
         // Init batch
-        batch = new SpriteBatch();
+        if (!headless) batch = new SpriteBatch();
         // Create cam used to follow mario through cam world
         camera = new OrthographicCamera();
         // Create a FitViewport to maintain virtual aspect ratio despite screen size
@@ -138,22 +220,34 @@ public class GameScreenLogic implements Disposable {
         cameraGUI.update();
     }
 
-    private void initMap() {
+    private void initWorld() {
         // Init world
         world = new World(GRAVITY, true);
-        world.setContactListener(new WorldContactListener());
-        // Load our map_old and setup our map_old renderer
-        mapLoader = new TmxMapLoader();
-        map = mapLoader.load(ValueManager.instance.mapPath);
-        background = ValueManager.instance.background;
-        renderer = new BackgroundTiledMapRenderer(map, 1 / PPM , background);
-
-        b2dr = new Box2DDebugRenderer();
+        projectiles = ProjectileManager.getInstance(world);
+        contactListener = new WorldContactListener();
+        world.setContactListener(contactListener);
+        // Read ahead by LevelStartScreen, this only picks it up
+        level = LevelData.load(ValueManager.instance.mapPath);
+        if (!headless && GamePreferences.instance.recordInput) {
+            inputLog = new InputLog(ValueManager.instance.levelCurrent, seed,
+                    ValueManager.instance.score, ValueManager.instance.lives);
+        }
 
         // decoration
-        clouds = new Clouds(V_WIDTH * 100);
-        clouds.getPosition().set(0, 2);
+        clouds = new Clouds(camera, seed);
+    }
 
+    private void initMap() {
+        // Load our map_old and setup our map_old renderer
+        background = Assets.instance.textures.getBackground(ValueManager.instance.levelCurrent);
+        if (!headless) {
+            // Tileset textures are shared with earlier levels
+            mapLoader = CachingTmxMapLoader.instance;
+            map = mapLoader.load(level);
+            // Tile layers baked into chunks a screen wide
+            renderer = new CachedTiledMapRenderer(map, 1 / PPM, background, V_WIDTH);
+            b2dr = new Box2DDebugRenderer();
+        }
     }
 
     private void initLevel () {
@@ -161,8 +255,8 @@ public class GameScreenLogic implements Disposable {
     }
 
 
-    private void initObject() {
-        // Shader
+    private void initShader() {
+        if (headless) return;
         shaderMonochrome = new ShaderProgram(
                 Gdx.files.internal(Constants.shaderMonochromeVertex),
                 Gdx.files.internal(Constants.shaderMonochromeFragment));
@@ -171,13 +265,30 @@ public class GameScreenLogic implements Disposable {
                     + shaderMonochrome.getLog();
             throw new GdxRuntimeException(msg);
         }
-        // Game over overlay
-        gameOverOverlay = new GameOverOverlay(batch, cameraGUI);
-        // Joysticks
-        joystickOverlay = new JoystickOverlay(batch, this);
+    }
+
+    private void initObject() {
+        if (!headless) {
+            // Game over overlay
+            gameOverOverlay = new GameOverOverlay(batch, cameraGUI);
+            // Joysticks
+            joystickOverlay = new JoystickOverlay(batch, this);
+            if (inputSource == null)
+                inputSource = new DeviceInputSource(joystickOverlay);
+        }
         // Init score indicator
         scoreIndicator = new ScoreIndicator(this, batch);
-        creator = new B2WorldCreator(world, map, scoreIndicator);
+        creator = new B2WorldCreator(world, level, scoreIndicator);
+        enemyProbes = EnemyProbeService.getInstance(world);
+    }
+
+    private void initWindow() {
+        // Bodies of the chunks around the player
+        creator.updateWindow(player.getPosition().x);
+
+        mapWidth = level.getWidth();
+        cameraLeftLimit = V_WIDTH / 2;
+        cameraRightLimit =  mapWidth - V_WIDTH / 2;
     }
 
     private void resetPlayer() {
@@ -187,19 +298,24 @@ public class GameScreenLogic implements Disposable {
     }
 
     public void update (float deltaTime) {
-        accumulator += Math.min(deltaTime, 0.25f);
-        if (accumulator >= STEP_TIME) {
+        trace.begin(Trace.UPDATE);
+        accumulator += Math.min(deltaTime, MAX_FRAME_TIME);
+        // Read input once per frame, one-shot actions wait for the next step
+        pollInput();
+        // Run as many fixed steps as the accumulator holds
+        int subSteps = 0;
+        while (accumulator >= STEP_TIME && subSteps < MAX_SUB_STEPS) {
+            savePositions();
+            step(STEP_TIME);
             accumulator -= STEP_TIME;
-            world.step(STEP_TIME, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+            subSteps++;
         }
-        // Handle Debug Input
-        // handleDebugInput(deltaTime);
-        // Update player
-        player.update(deltaTime);
+        // Too far behind, drop the time we could not simulate instead of spiralling
+        if (accumulator >= STEP_TIME) accumulator = 0;
+        // Render in between the last two physics states
+        interpolate(accumulator / STEP_TIME);
         // Update clouds
         clouds.update(deltaTime);
-        // Update object
-        updateTile(deltaTime);
         // update ScoreIndicator
         scoreIndicator.update(deltaTime);
         if (ValueManager.instance.livesVisual > ValueManager.instance.lives) {
@@ -207,6 +323,35 @@ public class GameScreenLogic implements Disposable {
         }
         if (ValueManager.instance.scoreVisual < ValueManager.instance.score)
             ValueManager.instance.scoreVisual = Math.min(ValueManager.instance.score, ValueManager.instance.scoreVisual + 250 * deltaTime);
+        if (!headless) handleHackInput();
+        trace.end(Trace.UPDATE);
+    }
+
+    private void step(float deltaTime) {
+        trace.begin(Trace.STEP);
+        if (inputLog != null) inputLog.record(playerInput);
+        contactListener.beginStep();
+        profiler.begin(GameProfiler.STEP);
+        trace.begin(Trace.WORLD_STEP);
+        world.step(deltaTime, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+        trace.end(Trace.WORLD_STEP);
+        profiler.end(GameProfiler.STEP);
+        // Contacts of this step, applied now that the world is unlocked
+        trace.begin(Trace.CONTACTS);
+        contactListener.endStep();
+        trace.end(Trace.CONTACTS);
+        // Update player
+        profiler.begin(GameProfiler.PLAYER);
+        player.update(deltaTime);
+        profiler.end(GameProfiler.PLAYER);
+        // Update object
+        profiler.begin(GameProfiler.TILES);
+        updateTile(deltaTime);
+        profiler.end(GameProfiler.TILES);
+        // Wall probes the enemies asked for during their update
+        enemyProbes.flush();
+        // Shots fired this step and everything already flying
+        projectiles.update(deltaTime);
         if (!ValueManager.instance.isGameOver() && player.isPlayerFalling() && isCheckFallWater) {
             isCheckFallWater = false;
             AudioManager.instance.play(Assets.instance.sounds.water);
@@ -220,8 +365,10 @@ public class GameScreenLogic implements Disposable {
                 isCheckNextLevel = false;
                 if (ValueManager.instance.levelCurrent > ValueManager.instance.totalLevel) {
                     backToMenu();
-                } else {
+                } else if (game != null) {
                     game.setScreen(new LevelStartScreen(game));
+                } else {
+                    finished = true;
                 }
             }
         }
@@ -239,84 +386,141 @@ public class GameScreenLogic implements Disposable {
                 if (ValueManager.instance.timeLeftLiveLost < 0) resetPlayer();
             }
         }
-    }
-
-    private void updateTile(float deltaTime) {
+        // one-shot actions are consumed by the step that saw them
+        playerInput.attack = false;
+        playerInput.attackThrow = false;
+        playerInput.jumpThrow = false;
+        trace.end(Trace.STEP);
+    }
+
+    private void savePositions() {
+        player.savePosition();
+        projectiles.savePositions();
+        EntityRegistry<BoxObject> boxObjects = creator.getBoxObjects();
+        for (int i = boxObjects.size(); --i >= 0;)
+            boxObjects.get(i).savePosition();
+        EntityRegistry<ItemObject> itemObjects = creator.getItemObjects();
+        for (int i = itemObjects.size(); --i >= 0;)
+            itemObjects.get(i).savePosition();
+        EntityRegistry<Enemy> enemies = creator.getEnemies();
+        for (int i = enemies.size(); --i >= 0;)
+            enemies.get(i).savePosition();
+    }
+
+    private void interpolate(float alpha) {
+        player.interpolate(alpha);
+        projectiles.interpolate(alpha);
+        EntityRegistry<BoxObject> boxObjects = creator.getBoxObjects();
+        for (int i = boxObjects.size(); --i >= 0;)
+            boxObjects.get(i).interpolate(alpha);
+        EntityRegistry<ItemObject> itemObjects = creator.getItemObjects();
+        for (int i = itemObjects.size(); --i >= 0;)
+            itemObjects.get(i).interpolate(alpha);
+        EntityRegistry<Enemy> enemies = creator.getEnemies();
+        for (int i = enemies.size(); --i >= 0;)
+            enemies.get(i).interpolate(alpha);
+    }
+
+    public void updateTile(float deltaTime) {
+        // Animate only what the camera can show. The view is derived from the
+        // player rather than the camera so the simulation doesn't depend on
+        // the render rate.
+        float viewX = MathUtils.clamp(player.getPosition().x, cameraLeftLimit, cameraRightLimit);
+        float viewLeft = viewX - V_WIDTH / 2 - CULL_MARGIN;
+        float viewRight = viewX + V_WIDTH / 2 + CULL_MARGIN;
+        animationCulledCount = 0;
+        // Bring in the map around the player, bodies outside stop simulating
+        creator.updateWindow(player.getPosition().x);
         // Update BoxObject
         BoxObject boxObject;
-        int len = creator.getActiveBoxObjects().size;
-        for (int i = len; --i >= 0;) {
-            boxObject = creator.getActiveBoxObjects().get(i);
+        EntityRegistry<BoxObject> boxObjects = creator.getBoxObjects();
+        SpatialIndex<BoxObject> boxIndex = creator.getBoxIndex();
+        for (int i = boxObjects.size(); --i >= 0;) {
+            boxObject = boxObjects.get(i);
+            boxObject.setInView(isInView(boxObject.getBody(), boxObject.getCullHalfWidth(), viewLeft, viewRight));
             boxObject.update(deltaTime);
-            if (player.getX() + V_WIDTH / 2 + 10 > boxObject.getX() && boxObject.getBody() != null)
-                boxObject.getBody().setActive(true);
+            updateActive(boxObject.getBody());
             if (boxObject.isDestroyed()) {
-                creator.getActiveBoxObjects().removeIndex(i);
-                if (boxObject instanceof Crate)
-                    creator.getCratePool().free((Crate) boxObject);
+                boxIndex.remove(boxObject);
+                boxObjects.free(i);
+            } else if (boxObject.getBody() != null) {
+                boxIndex.move(boxObject, boxObject.getBody().getPosition().x);
             }
         }
         // Update ItemObject
         ItemObject itemObject;
-        len = creator.getActiveItemObjects().size;
-        for (int i = len; --i >= 0;) {
-            itemObject = creator.getActiveItemObjects().get(i);
+        EntityRegistry<ItemObject> itemObjects = creator.getItemObjects();
+        SpatialIndex<ItemObject> itemIndex = creator.getItemIndex();
+        for (int i = itemObjects.size(); --i >= 0;) {
+            itemObject = itemObjects.get(i);
+            itemObject.setInView(isInView(itemObject.getBody(), itemObject.getCullHalfWidth(), viewLeft, viewRight));
             itemObject.update(deltaTime);
-            if (player.getX() + V_WIDTH / 2 + 10 > itemObject.getX() && itemObject.getBody() != null)
-                itemObject.getBody().setActive(true);
+            updateActive(itemObject.getBody());
             if (itemObject.isDestroyed()) {
-                creator.getActiveItemObjects().removeIndex(i);
-                if (itemObject instanceof Coin)
-                    creator.getCoinPool().free((Coin) itemObject);
-                else if (itemObject instanceof Feather)
-                    creator.getFeatherPool().free((Feather) itemObject);
+                itemIndex.remove(itemObject);
+                itemObjects.free(i);
+            } else if (itemObject.getBody() != null) {
+                itemIndex.move(itemObject, itemObject.getBody().getPosition().x);
             }
         }
         // Update enemies
         Enemy enemy;
-        len = creator.getActiveEnemies().size;
-        for (int i = len; --i >= 0;) {
-            enemy = creator.getActiveEnemies().get(i);
+        EntityRegistry<Enemy> enemies = creator.getEnemies();
+        SpatialIndex<Enemy> enemyIndex = creator.getEnemyIndex();
+        for (int i = enemies.size(); --i >= 0;) {
+            enemy = enemies.get(i);
+            enemy.setInView(isInView(enemy.getBody(), enemy.getCullHalfWidth(), viewLeft, viewRight));
+            enemy.setInWindow(enemy.getBody() != null && creator.isInWindow(enemy.getBody().getPosition().x));
             enemy.update(deltaTime);
-            if (player.getX() + V_WIDTH / 2 + 10 > enemy.getX() && enemy.getBody() != null)
-                enemy.getBody().setActive(true);
+            updateActive(enemy.getBody());
             if (enemy.isDestroyed()) {
-                creator.getActiveEnemies().removeIndex(i);
-                if (enemy instanceof Zombie)
-                    creator.getZombiePool().free((Zombie) enemy);
-                else if (enemy instanceof Santa)
-                    creator.getSantaPool().free((Santa) enemy);
-                else if (enemy instanceof Robot)
-                    creator.getRobotPool().free((Robot) enemy);
-                else if (enemy instanceof Knight)
-                    creator.getKnightPool().free((Knight) enemy);
-                else if (enemy instanceof Ghost)
-                    creator.getGhostPool().free((Ghost) enemy);
-                else if (enemy instanceof Dino)
-                    creator.getDinoPool().free((Dino) enemy);
-                else if (enemy instanceof AdventureGirl)
-                    creator.getAdventureGirlPool().free((AdventureGirl) enemy);
-                else if (enemy instanceof Bone)
-                    creator.getBonePool().free((Bone) enemy);
+                enemyIndex.remove(enemy);
+                enemies.free(i);
+            } else if (enemy.getBody() != null) {
+                enemyIndex.move(enemy, enemy.getBody().getPosition().x);
             }
         }
     }
 
+    private void updateActive(Body body) {
+        if (body == null) return;
+        boolean active = creator.isInWindow(body.getPosition().x);
+        if (body.isActive() != active)
+            body.setActive(active);
+    }
+
+    // The body, not the sprite, which interpolate moved by the frame's leftover time
+    private boolean isInView(Body body, float halfWidth, float left, float right) {
+        if (body == null) return false;
+        float x = body.getPosition().x;
+        boolean inView = x - halfWidth <= right && x + halfWidth >= left;
+        if (!inView) animationCulledCount++;
+        return inView;
+    }
+
     public void render() {
+        trace.begin(Trace.RENDER);
+        profiler.begin(GameProfiler.MAP);
         renderWorld(batch);
+        profiler.end(GameProfiler.MAP);
         batch.begin();
+        profiler.begin(GameProfiler.ENTITIES);
         renderTile(batch);
+        profiler.end(GameProfiler.ENTITIES);
         renderObject(batch);
         renderShader(batch);
         batch.end();
         batch.setProjectionMatrix(cameraGUI.combined);
         batch.begin();
+        profiler.begin(GameProfiler.GUI);
         renderGui(batch);
+        profiler.end(GameProfiler.GUI);
         batch.end();
         // Render joystick // Android Type
         if (Gdx.app.getType() == Application.ApplicationType.Android || Gdx.app.getType() == Application.ApplicationType.iOS )
             joystickOverlay.render();
         if (isDebug) renderDebug();
+        trace.end(Trace.RENDER);
     }
 
     private void renderShader(SpriteBatch batch) {
@@ -328,37 +532,37 @@ public class GameScreenLogic implements Disposable {
     }
 
     private void renderTile(SpriteBatch batch) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2;
+        float left = camera.position.x - halfWidth;
+        float right = camera.position.x + halfWidth;
+        drawnCount = 0;
+        culledCount = 0;
         // ItemObject
-        ItemObject itemObject;
-        int len = creator.getActiveItemObjects().size;
-        for (int i = len; --i >= 0;) {
-            itemObject = creator.getActiveItemObjects().get(i);
-            if (!itemObject.isDestroyed()) {
-                itemObject.draw(batch);
-            }
-        }
+        renderVisible(batch, creator.getItemIndex(), creator.getItemObjects().size(), left, right);
         // BoxObject
-        BoxObject boxObject;
-        len = creator.getActiveBoxObjects().size;
-        for (int i = len; --i >= 0;) {
-            boxObject = creator.getActiveBoxObjects().get(i);
-            if (!boxObject.isDestroyed()) {
-                boxObject.draw(batch);
-            }
-        }
+        renderVisible(batch, creator.getBoxIndex(), creator.getBoxObjects().size(), left, right);
         // Enemy
-        Enemy enemy;
-        len = creator.getActiveEnemies().size;
-        for (int i = len; --i >= 0;) {
-            enemy = creator.getActiveEnemies().get(i);
-            if (!enemy.isDestroyed()) {
-                enemy.draw(batch);
-            }
+        renderVisible(batch, creator.getEnemyIndex(), creator.getEnemies().size(), left, right);
+    }
+
+    // Only the buckets the view reaches are read, their entities are tested by sprite bounds
+    private <T extends Sprite> void renderVisible(SpriteBatch batch, SpatialIndex<T> index,
+                                                  int total, float left, float right) {
+        Array<T> candidates = index.query(left, right);
+        int drawn = 0;
+        for (int i = 0; i < candidates.size; i++) {
+            T sprite = candidates.get(i);
+            if (sprite.getX() > right || sprite.getX() + sprite.getWidth() < left) continue;
+            sprite.draw(batch);
+            drawn++;
         }
+        drawnCount += drawn;
+        culledCount += total - drawn;
     }
 
     private void renderObject(SpriteBatch batch) {
         player.draw(batch);
+        projectiles.draw(batch);
         clouds.render(batch);
     }
 
@@ -393,6 +597,9 @@ public class GameScreenLogic implements Disposable {
         // draw FPS text (anchored to bottom right edge)
         if (GamePreferences.instance.showFpsCounter)
             renderGuiFpsCounter(batch);
+        // draw phase timings (anchored to left edge, below the score)
+        if (profiler.isEnabled())
+            renderGuiProfiler(batch);
         // draw Game Over
         renderGuiOverlay(batch);
         // draw collected feather icon (anchored to top left edge)
@@ -431,9 +638,8 @@ public class GameScreenLogic implements Disposable {
         }
         batch.draw(Assets.instance.goldCoin.goldCoin, x, y, offsetX,
                 offsetY, WINDOW_HEIGHT / 6.3f, WINDOW_HEIGHT / 6.3f, 0.35f, -0.35f, 0);
-        Assets.instance.fonts.textFontNormal.draw(batch,
-                "" + (int) ValueManager.instance.scoreVisual,
-                x + 75, y + 40);
+        scoreText.draw(batch, Assets.instance.fonts.textFontNormal,
+                (int) ValueManager.instance.scoreVisual, x + 75, y + 40);
     }
 
     private void renderGuiExtraLive (SpriteBatch batch) {
@@ -476,10 +682,14 @@ public class GameScreenLogic implements Disposable {
             // less than 30 FPS show up in red
             Assets.instance.fonts.defaultNormal.setColor(1, 0, 0, 1);
         }
-        Assets.instance.fonts.defaultNormal.draw(batch, "FPS: " + fps, x, y);
+        fpsText.draw(batch, Assets.instance.fonts.defaultNormal, fps, x, y);
         Assets.instance.fonts.defaultNormal.setColor(1, 1, 1, 1); // white
     }
 
+    private void renderGuiProfiler (SpriteBatch batch) {
+        Assets.instance.fonts.defaultNormal.draw(batch, profiler.getText(world), 10, 110);
+    }
+
     private void renderGuiOverlay (SpriteBatch batch) {
         if (ValueManager.instance.isGameOver()) {
             gameOverOverlay.render(Gdx.graphics.getDeltaTime());
@@ -503,61 +713,75 @@ public class GameScreenLogic implements Disposable {
             batch.draw(Assets.instance.feather.feather,
                     x, y, 50, 50, WINDOW_HEIGHT / 6.3f, WINDOW_HEIGHT / 6.3f, 0.35f, -0.35f, 0);
             batch.setColor(1, 1, 1, 1);
-            Assets.instance.fonts.textFontSmall.draw(batch,
-                    "" + (int)timeLeftFeatherPowerup, x + 60, y + 57);
+            featherText.draw(batch, Assets.instance.fonts.textFontSmall,
+                    (int) timeLeftFeatherPowerup, x + 60, y + 57);
         }
     }
 
     public void backToMenu () {
         // switch to menu screen
-        game.setScreen(new MenuScreen(game));
+        if (game != null)
+            game.setScreen(new MenuScreen(game));
+        else
+            finished = true;
         isCheckGameOver = false;
     }
 
+    private void pollInput() {
+        boolean attack = playerInput.attack;
+        boolean attackThrow = playerInput.attackThrow;
+        boolean jumpThrow = playerInput.jumpThrow;
+        playerInput.reset();
+        inputSource.poll(playerInput);
+        // keep presses that no step has consumed yet
+        playerInput.attack |= attack;
+        playerInput.attackThrow |= attackThrow;
+        playerInput.jumpThrow |= jumpThrow;
+    }
+
     private void handleInput(float deltaTime) {
-        if (Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT) || joystickOverlay.isLeftPressed()) {
+        if (playerInput.left) {
             player.left();
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT) || joystickOverlay.isRightPressed()) {
+        if (playerInput.right) {
             player.right();
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.W) || Gdx.input.isKeyPressed(Input.Keys.UP) || joystickOverlay.isUpPressed()) {
+        if (playerInput.jump) {
             player.jump();
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN) || joystickOverlay.isDownPressed()) {
+        if (playerInput.down) {
             player.down();
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.Q) || joystickOverlay.isMeleePressed()) {
+        if (playerInput.attack) {
             player.attack();
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.E) || joystickOverlay.isThrowPressed()) {
+        if (playerInput.attackThrow) {
             player.attackThrow();
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.X) || joystickOverlay.isClimPressed()) {
+        if (playerInput.climb) {
             player.climb();
         }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.C) || joystickOverlay.isJumpThrowPressed()) {
+        if (playerInput.jumpThrow) {
             player.jumpThrow();
         }
+    }
 
+    private void handleHackInput() {
         // Hacking
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) {
-            renderer.setBackground(Assets.instance.textures.background1);
+            setHackBackground(1);
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) {
-            renderer.setBackground(Assets.instance.textures.background2);
+            setHackBackground(2);
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) {
-            renderer.setBackground(Assets.instance.textures.background3);
-        }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) {
-            renderer.setBackground(Assets.instance.textures.background3);
+            setHackBackground(3);
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_4)) {
-            renderer.setBackground(Assets.instance.textures.background4);
+            setHackBackground(4);
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_5)) {
-            renderer.setBackground(Assets.instance.textures.background5);
+            setHackBackground(5);
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.COMMA)) {
             ValueManager.instance.lives++;
@@ -565,6 +789,15 @@ public class GameScreenLogic implements Disposable {
         if (Gdx.input.isKeyJustPressed(Input.Keys.SLASH)) {
             player.setFeatherPowerup(true);
         }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F9)) {
+            trace.dump();
+        }
+    }
+
+    private void setHackBackground(int level) {
+        // Only backgrounds of levels loaded so far
+        Texture texture = Assets.instance.textures.getBackground(level);
+        if (texture != null) renderer.setBackground(texture);
     }
 
     private void handleDebugInput(float deltaTime) {
@@ -602,18 +835,70 @@ public class GameScreenLogic implements Disposable {
         return joystickOverlay;
     }
 
+    public World getWorld() {
+        return world;
+    }
+
+    public B2WorldCreator getCreator() {
+        return creator;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public WorldContactListener getContactListener() {
+        return contactListener;
+    }
+
+    /** Entities drawn in the last frame. */
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    /** Entities skipped by the camera test in the last frame. */
+    public int getCulledCount() {
+        return culledCount;
+    }
+
+    /** Entities that skipped their animation in the last step. */
+    public int getAnimationCulledCount() {
+        return animationCulledCount;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /** Seeds the decoration, call before the init to replay a recorded level. */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /** True once the level ended without a game to switch screens (headless runs). */
+    public boolean isFinished() {
+        return finished;
+    }
+
     @Override
     public void dispose() {
-        map.dispose();
-        renderer.dispose();
-        world.dispose();
-        b2dr.dispose();
-        scoreIndicator.dispose();
-        shaderMonochrome.dispose();
-        background.dispose();
-        gameOverOverlay.dispose();
-        joystickOverlay.dispose();
-        batch.dispose();
+        // A staged init may have been dropped half way
+        if (world != null) world.dispose();
+        if (inputLog != null && inputLog.getStepCount() > 0) {
+            FileHandle file = Gdx.files.local("replays/level" + inputLog.getLevel()
+                    + "-" + TimeUtils.millis() + ".input");
+            inputLog.write(file);
+            Gdx.app.log(TAG, inputLog.getStepCount() + " steps recorded to " + file.path());
+        }
+        if (headless) return;
+        // Leaves the cached tileset textures alone
+        if (map != null) map.dispose();
+        if (renderer != null) renderer.dispose();
+        if (b2dr != null) b2dr.dispose();
+        if (shaderMonochrome != null) shaderMonochrome.dispose();
+        if (gameOverOverlay != null) gameOverOverlay.dispose();
+        if (joystickOverlay != null) joystickOverlay.dispose();
+        if (batch != null) batch.dispose();
     }
 
 }
@@ -0,0 +1,117 @@
+package com.fgdev.game.logics;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * The actions of every fixed step of one level, with what the level started
+ * from: its number, the score, the lives and the clouds seed. Replaying the
+ * steps from the same start gives the same game. On disk the steps are run
+ * length encoded, a held button costs a few bytes however long it is held.
+ */
+public class InputLog {
+
+    private static final int MAGIC = 0x4647494e;
+    private static final int VERSION = 1;
+
+    private final int level;
+    private final long seed;
+    private final int score;
+    private final int lives;
+    // one byte of PlayerInput bits per step
+    private final ByteArray steps;
+
+    public InputLog(int level, long seed, int score, int lives) {
+        this(level, seed, score, lives, new ByteArray(true, 4096));
+    }
+
+    private InputLog(int level, long seed, int score, int lives, ByteArray steps) {
+        this.level = level;
+        this.seed = seed;
+        this.score = score;
+        this.lives = lives;
+        this.steps = steps;
+    }
+
+    public void record(PlayerInput input) {
+        steps.add((byte) input.getBits());
+    }
+
+    /** Sets the input to what the given step saw. */
+    public void get(int step, PlayerInput input) {
+        input.setBits(steps.get(step) & 0xff);
+    }
+
+    public int getStepCount() {
+        return steps.size;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public static InputLog read(FileHandle file) {
+        DataInput in = new DataInput(new ByteArrayInputStream(file.readBytes()));
+        try {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+                throw new GdxRuntimeException("Not an input log: " + file.path());
+            int level = in.readInt(true);
+            long seed = in.readLong();
+            int score = in.readInt(true);
+            int lives = in.readInt(false);
+            int count = in.readInt(true);
+            ByteArray steps = new ByteArray(true, count);
+            while (steps.size < count) {
+                byte bits = in.readByte();
+                int run = in.readInt(true);
+                for (int i = 0; i < run; i++) steps.add(bits);
+            }
+            in.close();
+            return new InputLog(level, seed, score, lives, steps);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't read input log " + file.path(), e);
+        }
+    }
+
+    public void write(FileHandle file) {
+        DataOutput out = new DataOutput(file.write(false));
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(level, true);
+            out.writeLong(seed);
+            out.writeInt(score, true);
+            out.writeInt(lives, false);
+            out.writeInt(steps.size, true);
+            for (int i = 0; i < steps.size;) {
+                byte bits = steps.get(i);
+                int run = 1;
+                while (i + run < steps.size && steps.get(i + run) == bits) run++;
+                out.writeByte(bits);
+                out.writeInt(run, true);
+                i += run;
+            }
+            out.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't write input log " + file.path(), e);
+        }
+    }
+}
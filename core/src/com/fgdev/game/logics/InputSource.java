@@ -0,0 +1,10 @@
+package com.fgdev.game.logics;
+
+/**
+ * Supplies the player actions for the next update. The default source reads the
+ * keyboard and joystick, a headless run plugs in a scripted one.
+ */
+public interface InputSource {
+
+    void poll(PlayerInput input);
+}
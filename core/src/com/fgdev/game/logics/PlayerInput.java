@@ -0,0 +1,62 @@
+package com.fgdev.game.logics;
+
+/**
+ * Player actions resolved for one update, independent of where they came from.
+ */
+public class PlayerInput {
+
+    public boolean left;
+    public boolean right;
+    public boolean jump;
+    public boolean down;
+    public boolean attack;
+    public boolean attackThrow;
+    public boolean climb;
+    public boolean jumpThrow;
+
+    // One bit per action, the order of the fields
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int JUMP = 1 << 2;
+    public static final int DOWN = 1 << 3;
+    public static final int ATTACK = 1 << 4;
+    public static final int ATTACK_THROW = 1 << 5;
+    public static final int CLIMB = 1 << 6;
+    public static final int JUMP_THROW = 1 << 7;
+
+    public void reset() {
+        left = false;
+        right = false;
+        jump = false;
+        down = false;
+        attack = false;
+        attackThrow = false;
+        climb = false;
+        jumpThrow = false;
+    }
+
+    /** The actions packed into the low byte, for input logs. */
+    public int getBits() {
+        int bits = 0;
+        if (left) bits |= LEFT;
+        if (right) bits |= RIGHT;
+        if (jump) bits |= JUMP;
+        if (down) bits |= DOWN;
+        if (attack) bits |= ATTACK;
+        if (attackThrow) bits |= ATTACK_THROW;
+        if (climb) bits |= CLIMB;
+        if (jumpThrow) bits |= JUMP_THROW;
+        return bits;
+    }
+
+    public void setBits(int bits) {
+        left = (bits & LEFT) != 0;
+        right = (bits & RIGHT) != 0;
+        jump = (bits & JUMP) != 0;
+        down = (bits & DOWN) != 0;
+        attack = (bits & ATTACK) != 0;
+        attackThrow = (bits & ATTACK_THROW) != 0;
+        climb = (bits & CLIMB) != 0;
+        jumpThrow = (bits & JUMP_THROW) != 0;
+    }
+}
@@ -2,7 +2,6 @@ package com.fgdev.game.screens;
 
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.assets.AssetManager;
 import com.fgdev.game.utils.Assets;
 
 public abstract class AbstractGameScreen implements Screen {
@@ -17,7 +16,7 @@ public abstract class AbstractGameScreen implements Screen {
 
     @Override
     public void resume() {
-        Assets.instance.init(new AssetManager());
+        // Assets stay loaded, managed textures are reloaded by libGDX
     }
 
     @Override
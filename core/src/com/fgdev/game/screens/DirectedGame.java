@@ -8,6 +8,8 @@ import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.physics.box2d.World;
 import com.fgdev.game.helpers.WorldContactListener;
 import com.fgdev.game.screens.transitions.ScreenTransition;
+import com.fgdev.game.utils.GameProfiler;
+import com.fgdev.game.utils.Trace;
 
 import static com.fgdev.game.Constants.*;
 
@@ -38,10 +40,12 @@ public abstract class DirectedGame implements ApplicationListener {
             init = true;
         }
         // start new transition
+        Trace.instance.begin(Trace.SET_SCREEN);
         nextScreen = screen;
         nextScreen.show(); // activate next screen
         nextScreen.resize(w, h);
         nextScreen.render(0); // let screen update() once
+        Trace.instance.end(Trace.SET_SCREEN);
         if (currScreen != null) currScreen.pause();
         nextScreen.pause();
         Gdx.input.setInputProcessor(null); // disable input
@@ -57,9 +61,10 @@ public abstract class DirectedGame implements ApplicationListener {
 
     @Override
     public void render() {
-        // get delta time and ensure an upper limit of one 60th second
+        // get delta time and ensure an upper limit, the game logic
+        // catches up with fixed steps so don't slow it down here
         float deltaTime = Math.min(Gdx.graphics.getDeltaTime(),
-                1.0f / 60.0f);
+                MAX_FRAME_TIME);
         if (nextScreen == null) {
             // no ongoing transition
             if (currScreen != null) {
@@ -83,6 +88,8 @@ public abstract class DirectedGame implements ApplicationListener {
                 nextScreen = null;
                 screenTransition = null;
             } else {
+                GameProfiler.instance.begin(GameProfiler.TRANSITION);
+                Trace.instance.begin(Trace.TRANSITION);
                 // render screens to FBOs
                 currFbo.begin();
                 if (currScreen != null) currScreen.render(deltaTime);
@@ -95,6 +102,8 @@ public abstract class DirectedGame implements ApplicationListener {
                 screenTransition.render(batch,
                         currFbo.getColorBufferTexture(), nextFbo.getColorBufferTexture(),
                         alpha);
+                Trace.instance.end(Trace.TRANSITION);
+                GameProfiler.instance.end(GameProfiler.TRANSITION);
             }
         }
     }
@@ -17,6 +17,12 @@ public class GameScreen extends AbstractGameScreen {
         super(game);
     }
 
+    /** Takes over a game already built, see LevelStartScreen. */
+    public GameScreen (DirectedGame game, GameScreenLogic gameScreenLogic) {
+        super(game);
+        this.gameScreenLogic = gameScreenLogic;
+    }
+
     @Override
     public void render(float deltaTime) {
         if (!paused) {
@@ -38,6 +44,7 @@ public class GameScreen extends AbstractGameScreen {
     }
 
     public void init() {
+        if (gameScreenLogic != null) return;
         GamePreferences.instance.load();
         gameScreenLogic = new GameScreenLogic(game);
     }
@@ -63,6 +70,7 @@ public class GameScreen extends AbstractGameScreen {
     @Override
     public void hide() {
         gameScreenLogic.dispose();
+        gameScreenLogic = null;
         Gdx.input.setCatchBackKey(false);
     }
 
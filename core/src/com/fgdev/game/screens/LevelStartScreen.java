@@ -6,9 +6,14 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncResult;
 import com.fgdev.game.Constants;
+import com.fgdev.game.helpers.LevelData;
+import com.fgdev.game.logics.GameScreenLogic;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.GamePreferences;
+import com.fgdev.game.utils.HudText;
 import com.fgdev.game.utils.ValueManager;
 
 import static com.fgdev.game.Constants.WINDOW_HEIGHT;
@@ -24,6 +29,10 @@ public class LevelStartScreen extends AbstractGameScreen {
     private AbstractGameScreen levelScreen;
     private boolean paused;
     private float timeNextScreen;
+    private AsyncResult<LevelData> levelData;
+    private GameScreenLogic levelLogic;
+    private final HudText levelText = new HudText("Level ");
+    private final HudText scoreText = new HudText();
 
     public LevelStartScreen(DirectedGame game) {
         super(game);
@@ -36,12 +45,17 @@ public class LevelStartScreen extends AbstractGameScreen {
 
     @Override
     public void render(float deltaTime) {
+        // Wait for the previous screen to go, it still owns the old world
+        if (game.getCurrScreen() == this) prepareLevel();
         if (!paused) {
             timeNextScreen -= deltaTime;
-            if (timeNextScreen < 0 && ValueManager.instance.isNextLevel) {
+            if (timeNextScreen < 0 && ValueManager.instance.isNextLevel
+                    && levelLogic != null && levelLogic.isInitialized()) {
                 // switch to menu screen
                 ValueManager.instance.isNextLevel = false;
-                game.setScreen(new GameScreen(game));
+                GameScreenLogic logic = levelLogic;
+                levelLogic = null;
+                game.setScreen(new GameScreen(game, logic));
             }
         }
         Gdx.gl.glClearColor(0.0f, 0.0f, 0.0f, 1.0f);
@@ -53,6 +67,26 @@ public class LevelStartScreen extends AbstractGameScreen {
         batch.end();
     }
 
+    // The map is read on a background thread, its assets are queued once it is
+    // in, then the game is built one init stage a frame
+    private void prepareLevel() {
+        if (levelData != null) {
+            if (!levelData.isDone()) return;
+            try {
+                levelData.get();
+            } catch (GdxRuntimeException e) {
+                // Loading the level again below throws if it still fails
+                Gdx.app.error(TAG, "Couldn't load " + ValueManager.instance.mapPath + " in the background", e);
+            }
+            levelData = null;
+            Assets.instance.loadLevel(ValueManager.instance.levelCurrent, ValueManager.instance.mapPath);
+            GamePreferences.instance.load();
+            levelLogic = new GameScreenLogic(game, null, false, true);
+        }
+        if (levelLogic != null && !levelLogic.isInitialized() && Assets.instance.isLoaded(Assets.LEVEL))
+            levelLogic.initStep();
+    }
+
     private void renderGui(SpriteBatch batch) {
         // draw collected gold coins icon + text
         // (anchored to top left edge)
@@ -66,8 +100,8 @@ public class LevelStartScreen extends AbstractGameScreen {
     private void renderLevel(SpriteBatch batch) {
         float x = WINDOW_WIDTH / 2;
         float y = WINDOW_HEIGHT / 2;
-        Assets.instance.fonts.textFontNormal.draw(batch,
-                "Level " + (int) ValueManager.instance.levelCurrent, x - 50, y - 50);
+        levelText.draw(batch, Assets.instance.fonts.textFontNormal,
+                ValueManager.instance.levelCurrent, x - 50, y - 50);
     }
 
     @Override
@@ -81,6 +115,8 @@ public class LevelStartScreen extends AbstractGameScreen {
     @Override
     public void show() {
         timeNextScreen = 3;
+        // load the level while its number is shown
+        levelData = LevelData.loadAsync(ValueManager.instance.mapPath);
         batch = new SpriteBatch();
         // Camera gui
         cameraGUI = new OrthographicCamera(WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
@@ -103,8 +139,8 @@ public class LevelStartScreen extends AbstractGameScreen {
         }
         batch.draw(Assets.instance.goldCoin.goldCoin, x, y, offsetX, offsetY, WINDOW_HEIGHT / 6.3f,
                 WINDOW_HEIGHT / 6.3f, 0.35f, -0.35f, 0);
-        Assets.instance.fonts.textFontNormal.draw(batch,
-                "" + (int) ValueManager.instance.scoreVisual, x + 75, y + 40);
+        scoreText.draw(batch, Assets.instance.fonts.textFontNormal,
+                (int) ValueManager.instance.scoreVisual, x + 75, y + 40);
     }
 
     private void renderGuiExtraLive(SpriteBatch batch) {
@@ -151,6 +187,11 @@ public class LevelStartScreen extends AbstractGameScreen {
 
     @Override
     public void hide() {
+        // Left before the game took the level over
+        if (levelLogic != null) {
+            levelLogic.dispose();
+            levelLogic = null;
+        }
         batch.dispose();
         Gdx.input.setCatchBackKey(false);
     }
@@ -0,0 +1,94 @@
+package com.fgdev.game.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.fgdev.game.utils.Assets;
+
+/**
+ * Shows a progress bar until the given asset groups are ready and then moves
+ * on to the next screen. The loading itself is driven by the game every frame,
+ * this screen only waits for it.
+ */
+public class LoadingScreen extends AbstractGameScreen {
+
+    private static final String TAG = LoadingScreen.class.getName();
+
+    private ShapeRenderer shapeRenderer;
+    private int groups;
+    private AbstractGameScreen nextScreen;
+    private boolean firstFrame = true;
+    private boolean done;
+    private int width;
+    private int height;
+
+    public LoadingScreen(DirectedGame game, int groups, AbstractGameScreen nextScreen) {
+        super(game);
+        this.groups = groups;
+        this.nextScreen = nextScreen;
+    }
+
+    @Override
+    public void render(float deltaTime) {
+        if (firstFrame) {
+            firstFrame = false;
+            Gdx.app.debug(TAG, "first frame after " + Assets.instance.getMillisSinceStart() + " ms");
+        }
+        Gdx.gl.glClearColor(0.0f, 0.0f, 0.0f, 1.0f);
+        // Clears the screen
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        // Progress bar in the lower third
+        float barWidth = width * 0.6f;
+        float barHeight = Math.max(4, height * 0.02f);
+        float x = (width - barWidth) / 2;
+        float y = height / 3;
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0.25f, 0.25f, 0.25f, 1);
+        shapeRenderer.rect(x, y, barWidth, barHeight);
+        shapeRenderer.setColor(1.0f, 0.7f, 0.0f, 1);
+        shapeRenderer.rect(x, y, barWidth * Assets.instance.getProgress(groups), barHeight);
+        shapeRenderer.end();
+
+        // Only move on once this screen took over, setScreen renders it once before
+        if (!done && game.getCurrScreen() == this && Assets.instance.isLoaded(groups)) {
+            done = true;
+            Gdx.app.debug(TAG, "ready after " + Assets.instance.getMillisSinceStart() + " ms");
+            onLoaded();
+            game.setScreen(nextScreen);
+        }
+    }
+
+    /** Called once the groups are ready, right before the next screen is set. */
+    protected void onLoaded() {
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        this.width = width;
+        this.height = height;
+        shapeRenderer.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+    }
+
+    @Override
+    public void show() {
+        shapeRenderer = new ShapeRenderer();
+        width = Gdx.graphics.getWidth();
+        height = Gdx.graphics.getHeight();
+    }
+
+    @Override
+    public void hide() {
+        shapeRenderer.dispose();
+    }
+
+    @Override
+    public void pause() {
+
+    }
+
+    @Override
+    public InputProcessor getInputProcessor() {
+        return null;
+    }
+}
@@ -25,7 +25,9 @@ import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.fgdev.game.Constants;
 import com.fgdev.game.utils.Assets;
 import com.fgdev.game.utils.AudioManager;
+import com.fgdev.game.utils.GameProfiler;
 import com.fgdev.game.utils.GamePreferences;
+import com.fgdev.game.utils.Trace;
 import com.fgdev.game.utils.ValueManager;
 
 import static com.badlogic.gdx.scenes.scene2d.actions.Actions.alpha;
@@ -64,8 +66,11 @@ public class MenuScreen extends AbstractGameScreen {
     private Slider sldMusic;
     private CheckBox chkGirl;
     private CheckBox chkShowFpsCounter;
+    private CheckBox chkShowProfiler;
     private CheckBox chkUseMonoChromeShader;
     private CheckBox chkDebug;
+    private CheckBox chkTrace;
+    private CheckBox chkRecordInput;
     // debug
     private final float DEBUG_REBUILD_INTERVAL = 5.0f;
     private boolean debugEnabled = false;
@@ -242,8 +247,11 @@ public class MenuScreen extends AbstractGameScreen {
         sldMusic.setValue(prefs.volMusic);
         chkGirl.setChecked(prefs.isGirl);
         chkShowFpsCounter.setChecked(prefs.showFpsCounter);
+        chkShowProfiler.setChecked(prefs.showProfiler);
         chkUseMonoChromeShader.setChecked(prefs.useMonochromeShader);
         chkDebug.setChecked(prefs.debug);
+        chkTrace.setChecked(prefs.trace);
+        chkRecordInput.setChecked(prefs.recordInput);
     }
 
     private void saveSettings() {
@@ -254,9 +262,16 @@ public class MenuScreen extends AbstractGameScreen {
         prefs.volMusic = sldMusic.getValue();
         prefs.isGirl = chkGirl.isChecked();
         prefs.showFpsCounter = chkShowFpsCounter.isChecked();
+        prefs.showProfiler = chkShowProfiler.isChecked();
         prefs.useMonochromeShader = chkUseMonoChromeShader.isChecked();
         prefs.debug = chkDebug.isChecked();
+        // Turning the trace off writes out what it recorded
+        if (prefs.trace && !chkTrace.isChecked()) Trace.instance.dump();
+        prefs.trace = chkTrace.isChecked();
+        prefs.recordInput = chkRecordInput.isChecked();
         prefs.save();
+        GameProfiler.instance.setEnabled(prefs.showProfiler);
+        Trace.instance.setEnabled(prefs.trace);
     }
 
     private void onSaveClicked() {
@@ -270,9 +285,15 @@ public class MenuScreen extends AbstractGameScreen {
     }
 
     private void onPlayClicked () {
-        AudioManager.instance.play(Assets.instance.music.background);
         ValueManager.instance.isNextLevel = true;
-        game.setScreen(new LevelStartScreen(game));
+        // the selected player may not be loaded yet, nor the music
+        Assets.instance.loadPlayer();
+        game.setScreen(new LoadingScreen(game, Assets.PLAYER | Assets.MUSIC, new LevelStartScreen(game)) {
+            @Override
+            protected void onLoaded() {
+                AudioManager.instance.play(Assets.instance.music.background);
+            }
+        });
     }
 
     private void onOptionsClicked () {
@@ -338,6 +359,11 @@ public class MenuScreen extends AbstractGameScreen {
         tbl.add(new Label("Show FPS Counter", skinLibgdx));
         tbl.add(chkShowFpsCounter);
         tbl.row();
+        // + Checkbox, "Show Profiler" label
+        chkShowProfiler = new CheckBox("", skinLibgdx);
+        tbl.add(new Label("Show Profiler", skinLibgdx));
+        tbl.add(chkShowProfiler);
+        tbl.row();
         // + Checkbox, "Use Monochrome Shader" label
         chkUseMonoChromeShader = new CheckBox("", skinLibgdx);
         tbl.add(new Label("Use Monochrome Shader", skinLibgdx));
@@ -348,6 +374,16 @@ public class MenuScreen extends AbstractGameScreen {
         tbl.add(new Label("Debug", skinLibgdx));
         tbl.add(chkDebug);
         tbl.row();
+        // + Checkbox, "Record Trace" label
+        chkTrace = new CheckBox("", skinLibgdx);
+        tbl.add(new Label("Record Trace", skinLibgdx));
+        tbl.add(chkTrace);
+        tbl.row();
+        // + Checkbox, "Record Input" label
+        chkRecordInput = new CheckBox("", skinLibgdx);
+        tbl.add(new Label("Record Input", skinLibgdx));
+        tbl.add(chkRecordInput);
+        tbl.row();
         return tbl;
     }
 
@@ -6,13 +6,18 @@ import com.badlogic.gdx.assets.AssetErrorListener;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.fgdev.game.Constants;
+import com.fgdev.game.helpers.CachingTmxMapLoader;
 
 public class Assets implements Disposable, AssetErrorListener {
 
@@ -20,7 +25,38 @@ public class Assets implements Disposable, AssetErrorListener {
 
     public static final Assets instance = new Assets();
 
+    // Load groups, queued on their own and usable as soon as their files are in
+    public static final int CORE = 1;
+    public static final int MUSIC = 1 << 1;
+    public static final int PLAYER = 1 << 2;
+    public static final int LEVEL = 1 << 3;
+
+    private static final String[] BACKGROUNDS = {
+            "images/bg1.png", "images/bg2.png", "images/bg3.png", "images/bg4.png", "images/bg5.png"
+    };
+    private static final String[] MUSICS = {
+            "musics/background.mp3", "musics/menu_music.mp3"
+    };
+    private static final String[] SOUNDS = {
+            "sounds/add_life.wav", "sounds/bullet_enemy.wav", "sounds/click.wav", "sounds/destroy.wav",
+            "sounds/enemy_dead.wav", "sounds/glide.wav", "sounds/jump.wav", "sounds/jump_throw.wav",
+            "sounds/live_lost.wav", "sounds/melee.wav", "sounds/pickup_coin.wav",
+            "sounds/pickup_feather.wav", "sounds/throw.wav", "sounds/water.wav"
+    };
     private AssetManager assetManager;
+    // Groups queued and groups ready to use
+    private int queued;
+    private int loaded;
+    // Player atlas of the last queued PLAYER group
+    private String playerAtlas;
+    // Files held for the current level, and the ones of the level before that
+    // are let go once it is in
+    private final Array<String> levelFiles = new Array<String>();
+    private final Array<String> releasedFiles = new Array<String>();
+    private int level;
+    private long startTime;
+    private final Array<String> files = new Array<String>();
+    private final Array<Texture> residentTextures = new Array<Texture>();
     // Textures
     public AssetTexture textures;
     // Sound && Font
@@ -53,89 +89,244 @@ public class Assets implements Disposable, AssetErrorListener {
     // singleton: prevent instantiation from other classes
     private Assets() {}
 
-    public void init(AssetManager assetManager) {
+    /**
+     * Queues the core and music groups without waiting for them, drive the
+     * loading with {@link #update(int)}.
+     */
+    public void load(AssetManager assetManager) {
         this.assetManager = assetManager;
+        startTime = TimeUtils.millis();
         // set asset manager error handler
         assetManager.setErrorListener(this);
-        // load texture png
-        assetManager.load("images/bg1.png", Texture.class);
-        assetManager.load("images/bg2.png", Texture.class);
-        assetManager.load("images/bg3.png", Texture.class);
-        assetManager.load("images/bg4.png", Texture.class);
-        assetManager.load("images/bg5.png", Texture.class);
-        // load texture atlas
-        assetManager.load(Constants.TEXTURE_ATLAS_ITEM, TextureAtlas.class);
-        assetManager.load(Constants.TEXTURE_ATLAS_PLAYER_BOY, TextureAtlas.class);
-        assetManager.load(Constants.TEXTURE_ATLAS_PLAYER_GIRL, TextureAtlas.class);
-        assetManager.load(Constants.TEXTURE_ATLAS_ZOMBIE, TextureAtlas.class);
-        assetManager.load(Constants.TEXTURE_ATLAS_ROBOT, TextureAtlas.class);
-        assetManager.load(Constants.TEXTURE_ATLAS_ADVENTURE_GIRL, TextureAtlas.class);
-        assetManager.load(Constants.TEXTURE_ATLAS_DINO, TextureAtlas.class);
-        assetManager.load(Constants.TEXTURE_ATLAS_KNIGHT, TextureAtlas.class);
-        assetManager.load(Constants.TEXTURE_ATLAS_SANTA, TextureAtlas.class);
-        assetManager.load(Constants.TEXTURE_ATLAS_GHOST, TextureAtlas.class);
-        assetManager.load(Constants.TEXTURE_ATLAS_BONE, TextureAtlas.class);
-        assetManager.load(Constants.TEXTURE_ATLAS_JOYSTICK, TextureAtlas.class);
-        // load music
-        assetManager.load("musics/background.mp3", Music.class);
-        assetManager.load("musics/menu_music.mp3", Music.class);
-        // load sounds
-        assetManager.load("sounds/add_life.wav", Sound.class);
-        assetManager.load("sounds/bullet_enemy.wav", Sound.class);
-        assetManager.load("sounds/click.wav", Sound.class);
-        assetManager.load("sounds/destroy.wav", Sound.class);
-        assetManager.load("sounds/enemy_dead.wav", Sound.class);
-        assetManager.load("sounds/glide.wav", Sound.class);
-        assetManager.load("sounds/jump.wav", Sound.class);
-        assetManager.load("sounds/jump_throw.wav", Sound.class);
-        assetManager.load("sounds/live_lost.wav", Sound.class);
-        assetManager.load("sounds/melee.wav", Sound.class);
-        assetManager.load("sounds/pickup_coin.wav", Sound.class);
-        assetManager.load("sounds/pickup_feather.wav", Sound.class);
-        assetManager.load("sounds/throw.wav", Sound.class);
-        assetManager.load("sounds/water.wav", Sound.class);
+        textures = new AssetTexture(assetManager);
+        queue(CORE);
+        queue(MUSIC);
+    }
+
+    /**
+     * Loads the core and music groups and both players, blocking until done.
+     * Levels are loaded on their own with {@link #loadLevel(int, String)}.
+     */
+    public void init(AssetManager assetManager) {
+        load(assetManager);
+        queue(PLAYER);
+        request(Constants.TEXTURE_ATLAS_PLAYER_GIRL, TextureAtlas.class);
+        request(Constants.TEXTURE_ATLAS_PLAYER_BOY, TextureAtlas.class);
         // start loading assets and wait until finished
-        assetManager.finishLoading();
+        finishLoading();
 
         Gdx.app.debug(TAG, "# of assets loaded: "
                 + assetManager.getAssetNames().size);
         for (String a : assetManager.getAssetNames())
             Gdx.app.debug(TAG, "asset: " + a);
+    }
 
+    /** Queues the atlas of the player selected in the preferences. */
+    public void loadPlayer() {
+        queue(PLAYER);
+    }
 
-        TextureAtlas atlasPlayerGirl = getAtlas(Constants.TEXTURE_ATLAS_PLAYER_GIRL);
-        TextureAtlas atlasPlayerBoy = getAtlas(Constants.TEXTURE_ATLAS_PLAYER_BOY);
-        TextureAtlas atlasItem = getAtlas(Constants.TEXTURE_ATLAS_ITEM);
-        TextureAtlas atlasJoystick = getAtlas(Constants.TEXTURE_ATLAS_JOYSTICK);
-        TextureAtlas atlasZombie = getAtlas(Constants.TEXTURE_ATLAS_ZOMBIE);
-        TextureAtlas atlasRobot = getAtlas(Constants.TEXTURE_ATLAS_ROBOT);
-        TextureAtlas atlasAdventureGirl = getAtlas(Constants.TEXTURE_ATLAS_ADVENTURE_GIRL);
-        TextureAtlas atlasDino = getAtlas(Constants.TEXTURE_ATLAS_DINO);
-        TextureAtlas atlasKnight = getAtlas(Constants.TEXTURE_ATLAS_KNIGHT);
-        TextureAtlas atlasSanta = getAtlas(Constants.TEXTURE_ATLAS_SANTA);
-        TextureAtlas atlasGhost = getAtlas(Constants.TEXTURE_ATLAS_GHOST);
-        TextureAtlas atlasBone = getAtlas(Constants.TEXTURE_ATLAS_BONE);
-
-        // create game resource objects
-        fonts = new AssetFonts();
-        playerGirl = new AssetPlayer(atlasPlayerGirl);
-        playerBoy = new AssetPlayer(atlasPlayerBoy);
-        goldCoin = new AssetGoldCoin(atlasItem);
-        feather = new AssetFeather(atlasItem);
-        item = new AssetItem(atlasItem);
-        joystick = new AssetJoystick(atlasJoystick);
-        music = new AssetMusic(assetManager);
-        sounds = new AssetSounds(assetManager);
-        textures = new AssetTexture(assetManager);
-        assetObjectDecoration = new AssetObjectDecoration(atlasItem);
-        zombie = new AssetZombie(atlasZombie);
-        robot = new AssetRobot(atlasRobot);
-        adventureGirl = new AssetAdventureGirl(atlasAdventureGirl);
-        dino = new AssetDino(atlasDino);
-        knight = new AssetKnight(atlasKnight);
-        santa = new AssetSanta(atlasSanta);
-        ghost = new AssetGhost(atlasGhost);
-        bone = new AssetBone(atlasBone);
+    /**
+     * Queues what the map of the level (1 based) needs, see {@link LevelManifest}.
+     * The files are reference counted by the asset manager: the new level holds
+     * its files first, and the previous level lets go of its own once the new
+     * one is in, so shared atlases are never reloaded and the rest is unloaded.
+     */
+    public void loadLevel(int level, String mapPath) {
+        this.level = level;
+        LevelManifest manifest = new LevelManifest(mapPath,
+                BACKGROUNDS[MathUtils.clamp(level, 1, BACKGROUNDS.length) - 1]);
+        releasedFiles.addAll(levelFiles);
+        levelFiles.clear();
+        manifest.getFiles(levelFiles);
+        for (int i = 0; i < levelFiles.size; i++) {
+            String file = levelFiles.get(i);
+            assetManager.load(file, typeOf(file));
+        }
+        queued |= LEVEL;
+        loaded &= ~LEVEL;
+    }
+
+    /** Blocks until everything queued is loaded. */
+    public void finishLoading() {
+        assetManager.finishLoading();
+        update(0);
+    }
+
+    /**
+     * Bytes of texture memory held by the asset manager, backgrounds and atlas
+     * pages, counted from the size and format of each texture.
+     */
+    public int getTextureMemory() {
+        assetManager.getAll(Texture.class, residentTextures);
+        int bytes = 0;
+        for (int i = 0; i < residentTextures.size; i++) {
+            Texture texture = residentTextures.get(i);
+            bytes += texture.getWidth() * texture.getHeight()
+                    * bytesPerPixel(texture.getTextureData().getFormat());
+        }
+        residentTextures.clear();
+        return bytes;
+    }
+
+    /** Textures held by the asset manager. */
+    public int getTextureCount() {
+        assetManager.getAll(Texture.class, residentTextures);
+        int count = residentTextures.size;
+        residentTextures.clear();
+        return count;
+    }
+
+    /**
+     * Lets the asset manager load for about the given milliseconds and sets up
+     * every group whose files are all in.
+     *
+     * @return whether nothing is left to load
+     */
+    public boolean update(int millis) {
+        if (queued == 0) return true;
+        boolean done = assetManager.update(millis);
+        for (int group = CORE; group <= LEVEL; group <<= 1) {
+            if ((queued & group) != 0 && getProgress(group) == 1) finish(group);
+        }
+        return done && queued == 0;
+    }
+
+    /** Whether all of the given groups are ready to use. */
+    public boolean isLoaded(int groups) {
+        return (loaded & groups) == groups;
+    }
+
+    /** Share of the files of the given groups that are loaded, from 0 to 1. */
+    public float getProgress(int groups) {
+        files.clear();
+        for (int group = CORE; group <= LEVEL; group <<= 1) {
+            if ((groups & group) != 0) addFiles(group, files);
+        }
+        if (files.size == 0) return 1;
+        int count = 0;
+        for (int i = 0; i < files.size; i++) {
+            if (assetManager.isLoaded(files.get(i))) count++;
+        }
+        return count / (float) files.size;
+    }
+
+    /** Milliseconds since loading started, for time to first frame. */
+    public long getMillisSinceStart() {
+        return TimeUtils.timeSinceMillis(startTime);
+    }
+
+    private void queue(int group) {
+        if (group == PLAYER)
+            playerAtlas = GamePreferences.instance.isGirl
+                    ? Constants.TEXTURE_ATLAS_PLAYER_GIRL : Constants.TEXTURE_ATLAS_PLAYER_BOY;
+        files.clear();
+        addFiles(group, files);
+        for (int i = 0; i < files.size; i++) {
+            request(files.get(i), typeOf(files.get(i)));
+        }
+        queued |= group;
+        loaded &= ~group;
+    }
+
+    private static Class<?> typeOf(String file) {
+        if (file.endsWith(".atlas")) return TextureAtlas.class;
+        if (file.endsWith(".png")) return Texture.class;
+        if (file.endsWith(".mp3")) return Music.class;
+        return Sound.class;
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+
+    // Queues a file once, loading it again would only raise its reference count
+    private void request(String file, Class<?> type) {
+        if (!assetManager.contains(file)) assetManager.load(file, type);
+    }
+
+    private void addFiles(int group, Array<String> out) {
+        switch (group) {
+            case CORE:
+                out.add(Constants.TEXTURE_ATLAS_ITEM);
+                out.add(Constants.TEXTURE_ATLAS_JOYSTICK);
+                out.addAll(SOUNDS);
+                break;
+            case MUSIC:
+                out.addAll(MUSICS);
+                break;
+            case PLAYER:
+                out.add(playerAtlas);
+                break;
+            case LEVEL:
+                out.addAll(levelFiles);
+                break;
+        }
+    }
+
+    // create game resource objects of a group that finished loading
+    private void finish(int group) {
+        switch (group) {
+            case CORE:
+                TextureAtlas atlasItem = getAtlas(Constants.TEXTURE_ATLAS_ITEM);
+                if (fonts == null) fonts = new AssetFonts();
+                goldCoin = new AssetGoldCoin(atlasItem);
+                feather = new AssetFeather(atlasItem);
+                item = new AssetItem(atlasItem);
+                assetObjectDecoration = new AssetObjectDecoration(atlasItem);
+                joystick = new AssetJoystick(getAtlas(Constants.TEXTURE_ATLAS_JOYSTICK));
+                sounds = new AssetSounds(assetManager);
+                break;
+            case MUSIC:
+                music = new AssetMusic(assetManager);
+                break;
+            case PLAYER:
+                if (playerGirl == null && assetManager.isLoaded(Constants.TEXTURE_ATLAS_PLAYER_GIRL))
+                    playerGirl = new AssetPlayer(getAtlas(Constants.TEXTURE_ATLAS_PLAYER_GIRL));
+                if (playerBoy == null && assetManager.isLoaded(Constants.TEXTURE_ATLAS_PLAYER_BOY))
+                    playerBoy = new AssetPlayer(getAtlas(Constants.TEXTURE_ATLAS_PLAYER_BOY));
+                break;
+            case LEVEL:
+                // the previous level goes now, its screen is gone by the time this runs
+                for (int i = 0; i < releasedFiles.size; i++) {
+                    assetManager.unload(releasedFiles.get(i));
+                }
+                releasedFiles.clear();
+                if (!assetManager.isLoaded(Constants.TEXTURE_ATLAS_ZOMBIE)) zombie = null;
+                else if (zombie == null) zombie = new AssetZombie(getAtlas(Constants.TEXTURE_ATLAS_ZOMBIE));
+                if (!assetManager.isLoaded(Constants.TEXTURE_ATLAS_ROBOT)) robot = null;
+                else if (robot == null) robot = new AssetRobot(getAtlas(Constants.TEXTURE_ATLAS_ROBOT));
+                if (!assetManager.isLoaded(Constants.TEXTURE_ATLAS_ADVENTURE_GIRL)) adventureGirl = null;
+                else if (adventureGirl == null) adventureGirl = new AssetAdventureGirl(getAtlas(Constants.TEXTURE_ATLAS_ADVENTURE_GIRL));
+                if (!assetManager.isLoaded(Constants.TEXTURE_ATLAS_DINO)) dino = null;
+                else if (dino == null) dino = new AssetDino(getAtlas(Constants.TEXTURE_ATLAS_DINO));
+                if (!assetManager.isLoaded(Constants.TEXTURE_ATLAS_KNIGHT)) knight = null;
+                else if (knight == null) knight = new AssetKnight(getAtlas(Constants.TEXTURE_ATLAS_KNIGHT));
+                if (!assetManager.isLoaded(Constants.TEXTURE_ATLAS_SANTA)) santa = null;
+                else if (santa == null) santa = new AssetSanta(getAtlas(Constants.TEXTURE_ATLAS_SANTA));
+                if (!assetManager.isLoaded(Constants.TEXTURE_ATLAS_GHOST)) ghost = null;
+                else if (ghost == null) ghost = new AssetGhost(getAtlas(Constants.TEXTURE_ATLAS_GHOST));
+                if (!assetManager.isLoaded(Constants.TEXTURE_ATLAS_BONE)) bone = null;
+                else if (bone == null) bone = new AssetBone(getAtlas(Constants.TEXTURE_ATLAS_BONE));
+                Gdx.app.debug(TAG, "level " + level + ": " + getTextureCount() + " textures, "
+                        + getTextureMemory() / 1024 + " KB");
+                break;
+        }
+        queued &= ~group;
+        loaded |= group;
+        Gdx.app.debug(TAG, "group " + group + " ready after " + getMillisSinceStart() + " ms");
     }
 
     private TextureAtlas getAtlas(String path) {
@@ -159,6 +350,9 @@ public class Assets implements Disposable, AssetErrorListener {
     @Override
     public void dispose() {
         assetManager.dispose();
+        CachingTmxMapLoader.instance.dispose();
+        // fonts are made once the core group is in
+        if (fonts == null) return;
         fonts.defaultSmall.dispose();
         fonts.defaultNormal.dispose();
         fonts.defaultBig.dispose();
@@ -169,18 +363,16 @@ public class Assets implements Disposable, AssetErrorListener {
 
     public class AssetTexture {
 
-        public final Texture background1;
-        public final Texture background2;
-        public final Texture background3;
-        public final Texture background4;
-        public final Texture background5;
+        private final AssetManager am;
 
         public AssetTexture (AssetManager am) {
-            background1 = am.get("images/bg1.png", Texture.class);
-            background2 = am.get("images/bg2.png", Texture.class);
-            background3 = am.get("images/bg3.png", Texture.class);
-            background4 = am.get("images/bg4.png", Texture.class);
-            background5 = am.get("images/bg5.png", Texture.class);
+            this.am = am;
+        }
+
+        /** Background of the level (1 based), null until a level using it was loaded. */
+        public Texture getBackground (int level) {
+            String path = BACKGROUNDS[MathUtils.clamp(level, 1, BACKGROUNDS.length) - 1];
+            return am.isLoaded(path) ? am.get(path, Texture.class) : null;
         }
 
     }
@@ -284,19 +476,20 @@ public class Assets implements Disposable, AssetErrorListener {
         public final TextureAtlas.AtlasRegion head;
         public final TextureAtlas.AtlasRegion player;
         public final TextureAtlas.AtlasRegion kunai;
-        public final Animation animIdle;
-        public final Animation animDelay;
-        public final Animation animRun;
-        public final Animation animJump;
-        public final Animation animClimb;
-        public final Animation animDead;
-        public final Animation animGlide;
-        public final Animation animGlideBack;
-        public final Animation animJumpAttack;
-        public final Animation animJumpThrow;
-        public final Animation animAttack;
-        public final Animation animSlide;
-        public final Animation animThrow;
+        public final TextureRegion kunaiFlipped;
+        public final FacingAnimation animIdle;
+        public final FacingAnimation animDelay;
+        public final FacingAnimation animRun;
+        public final FacingAnimation animJump;
+        public final FacingAnimation animClimb;
+        public final FacingAnimation animDead;
+        public final FacingAnimation animGlide;
+        public final FacingAnimation animGlideBack;
+        public final FacingAnimation animJumpAttack;
+        public final FacingAnimation animJumpThrow;
+        public final FacingAnimation animAttack;
+        public final FacingAnimation animSlide;
+        public final FacingAnimation animThrow;
 
         public AssetPlayer(TextureAtlas atlas) {
 
@@ -305,48 +498,50 @@ public class Assets implements Disposable, AssetErrorListener {
             player = atlas.findRegion("anim_iddle");
 
             kunai = atlas.findRegion("Kunai");
+            kunaiFlipped = new TextureRegion(kunai);
+            kunaiFlipped.flip(true, false);
 
             Array<TextureAtlas.AtlasRegion> regions = null;
             TextureAtlas.AtlasRegion region = null;
             // Animation: Idle
             regions = atlas.findRegions("anim_iddle");
-            animIdle = new Animation(1.0f / 30.0f, regions, Animation.PlayMode.LOOP);
+            animIdle = new FacingAnimation(1.0f / 30.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Delay
             regions = atlas.findRegions("anim_iddle");
-            animDelay = new Animation(1.0f / 30.0f, regions);
+            animDelay = new FacingAnimation(1.0f / 30.0f, regions);
             // Animation: Run
             regions = atlas.findRegions("anim_run");
-            animRun = new Animation(1.0f / 30.0f, regions, Animation.PlayMode.LOOP);
+            animRun = new FacingAnimation(1.0f / 30.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Jump
             regions = atlas.findRegions("anim_jump");
-            animJump = new Animation(1.0f / 12.0f, regions);
+            animJump = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Climb
             regions = atlas.findRegions("anim_climb");
-            animClimb = new Animation(1.0f / 12.0f, regions);
+            animClimb = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Dead
             regions = atlas.findRegions("anim_dead");
-            animDead = new Animation(1.0f / 30.0f, regions);
+            animDead = new FacingAnimation(1.0f / 30.0f, regions);
             // Animation: Glide
             regions = atlas.findRegions("anim_glide");
-            animGlide = new Animation(1.0f / 30.0f, regions);
+            animGlide = new FacingAnimation(1.0f / 30.0f, regions);
             // Animation: Glide Back
             regions = atlas.findRegions("anim_glide");
-            animGlideBack = new Animation(1.0f / 30.0f, regions, Animation.PlayMode.REVERSED);
+            animGlideBack = new FacingAnimation(1.0f / 30.0f, regions, Animation.PlayMode.REVERSED);
             // Animation: Jump Attack
             regions = atlas.findRegions("anim_jump_attack");
-            animJumpAttack = new Animation(1.0f / 30.0f, regions);
+            animJumpAttack = new FacingAnimation(1.0f / 30.0f, regions);
             // Animation: Jump Throw
             regions = atlas.findRegions("anim_jump_throw");
-            animJumpThrow = new Animation(1.0f / 30.0f, regions);
+            animJumpThrow = new FacingAnimation(1.0f / 30.0f, regions);
             // Animation: Attack
             regions = atlas.findRegions("anim_attack");
-            animAttack = new Animation(1.0f / 30.0f, regions);
+            animAttack = new FacingAnimation(1.0f / 30.0f, regions);
             // Animation: Slide
             regions = atlas.findRegions("anim_slide");
-            animSlide = new Animation(1.0f / 30.0f, regions);
+            animSlide = new FacingAnimation(1.0f / 30.0f, regions);
             // Animation: Throw
             regions = atlas.findRegions("anim_throw");
-            animThrow = new Animation(1.0f / 30.0f, regions);
+            animThrow = new FacingAnimation(1.0f / 30.0f, regions);
         }
     }
 
@@ -460,271 +655,271 @@ public class Assets implements Disposable, AssetErrorListener {
 
     public class AssetZombie {
 
-        public final Animation animMaleIdle;
-        public final Animation animMaleWalk;
-        public final Animation animMaleDead;
-        public final Animation animMaleAttack;
+        public final FacingAnimation animMaleIdle;
+        public final FacingAnimation animMaleWalk;
+        public final FacingAnimation animMaleDead;
+        public final FacingAnimation animMaleAttack;
 
-        public final Animation animFeMaleIdle;
-        public final Animation animFeMaleWalk;
-        public final Animation animFeMaleDead;
-        public final Animation animFeMaleAttack;
+        public final FacingAnimation animFeMaleIdle;
+        public final FacingAnimation animFeMaleWalk;
+        public final FacingAnimation animFeMaleDead;
+        public final FacingAnimation animFeMaleAttack;
 
         public AssetZombie(TextureAtlas atlas) {
             Array<TextureAtlas.AtlasRegion> regions = null;
             // Animation: Idle
             regions = atlas.findRegions("anim_male_idle");
-            animMaleIdle = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
+            animMaleIdle = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
             regions = atlas.findRegions("anim_female_idle");
-            animFeMaleIdle = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
+            animFeMaleIdle = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Walk
             regions = atlas.findRegions("anim_male_walk");
-            animMaleWalk = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP_PINGPONG);
+            animMaleWalk = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP_PINGPONG);
             regions = atlas.findRegions("anim_female_walk");
-            animFeMaleWalk = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP_PINGPONG);
+            animFeMaleWalk = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP_PINGPONG);
             // Animation: Dead
             regions = atlas.findRegions("anim_male_dead");
-            animMaleDead = new Animation(1.0f / 12.0f, regions);
+            animMaleDead = new FacingAnimation(1.0f / 12.0f, regions);
             regions = atlas.findRegions("anim_female_dead");
-            animFeMaleDead = new Animation(1.0f / 12.0f, regions);
+            animFeMaleDead = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Attack
             regions = atlas.findRegions("anim_male_attack");
-            animMaleAttack = new Animation(1.0f / 30.0f, regions);
+            animMaleAttack = new FacingAnimation(1.0f / 30.0f, regions);
             regions = atlas.findRegions("anim_female_attack");
-            animFeMaleAttack = new Animation(1.0f / 30.0f, regions);
+            animFeMaleAttack = new FacingAnimation(1.0f / 30.0f, regions);
         }
     }
 
     public class AssetRobot {
-        public final Animation animBullet;
-        public final Animation animIdle;
-        public final Animation animRun;
-        public final Animation animShoot;
-        public final Animation animMelee;
-        public final Animation animJump;
-        public final Animation animJumpMelee;
-        public final Animation animJumpShoot;
-        public final Animation animRunShoot;
-        public final Animation animDead;
-        public final Animation animSlide;
+        public final FacingAnimation animBullet;
+        public final FacingAnimation animIdle;
+        public final FacingAnimation animRun;
+        public final FacingAnimation animShoot;
+        public final FacingAnimation animMelee;
+        public final FacingAnimation animJump;
+        public final FacingAnimation animJumpMelee;
+        public final FacingAnimation animJumpShoot;
+        public final FacingAnimation animRunShoot;
+        public final FacingAnimation animDead;
+        public final FacingAnimation animSlide;
 
         public AssetRobot(TextureAtlas atlas) {
             Array<TextureAtlas.AtlasRegion> regions = null;
             // Animation: Bullet
             regions = atlas.findRegions("anim_bullet");
-            animBullet = new Animation(1.0f / 30.0f, regions, Animation.PlayMode.LOOP_PINGPONG);
+            animBullet = new FacingAnimation(1.0f / 30.0f, regions, Animation.PlayMode.LOOP_PINGPONG);
             // Animation: Idle
             regions = atlas.findRegions("anim_idle");
-            animIdle = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP_PINGPONG);
+            animIdle = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP_PINGPONG);
             // Animation: Run
             regions = atlas.findRegions("anim_run");
-            animRun = new Animation(1.0f / 12.0f, regions);
+            animRun = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Melee
             regions = atlas.findRegions("anim_melee");
-            animMelee = new Animation(1.0f / 12.0f, regions);
+            animMelee = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Jump
             regions = atlas.findRegions("anim_jump");
-            animJump = new Animation(1.0f / 12.0f, regions);
+            animJump = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Jump Melee
             regions = atlas.findRegions("anim_jump_melee");
-            animJumpMelee = new Animation(1.0f / 12.0f, regions);
+            animJumpMelee = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Jump Shoot
             regions = atlas.findRegions("anim_jump_shoot");
-            animJumpShoot = new Animation(1.0f / 12.0f, regions);
+            animJumpShoot = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Run Shoot
             regions = atlas.findRegions("anim_run_shoot");
-            animRunShoot = new Animation(1.0f / 12.0f, regions);
+            animRunShoot = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Shoot
             regions = atlas.findRegions("anim_shoot");
-            animShoot = new Animation(1.0f / 6.0f, regions, Animation.PlayMode.LOOP_PINGPONG);
+            animShoot = new FacingAnimation(1.0f / 6.0f, regions, Animation.PlayMode.LOOP_PINGPONG);
             // Animation: Dead
             regions = atlas.findRegions("anim_dead");
-            animDead = new Animation(1.0f / 12.0f, regions);
+            animDead = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Slide
             regions = atlas.findRegions("anim_slide");
-            animSlide = new Animation(1.0f / 30.0f, regions);
+            animSlide = new FacingAnimation(1.0f / 30.0f, regions);
         }
     }
 
     public class AssetAdventureGirl {
 
-        public final Animation animIdle;
-        public final Animation animRun;
-        public final Animation animShoot;
-        public final Animation animMelee;
-        public final Animation animJump;
-        public final Animation animDead;
-        public final Animation animSlide;
+        public final FacingAnimation animIdle;
+        public final FacingAnimation animRun;
+        public final FacingAnimation animShoot;
+        public final FacingAnimation animMelee;
+        public final FacingAnimation animJump;
+        public final FacingAnimation animDead;
+        public final FacingAnimation animSlide;
 
         public AssetAdventureGirl(TextureAtlas atlas) {
             Array<TextureAtlas.AtlasRegion> regions = null;
             // Animation: Idle
             regions = atlas.findRegions("anim_idle");
-            animIdle = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
+            animIdle = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Run
             regions = atlas.findRegions("anim_run");
-            animRun = new Animation(1.0f / 12.0f, regions);
+            animRun = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Melee
             regions = atlas.findRegions("anim_melee");
-            animMelee = new Animation(1.0f / 12.0f, regions);
+            animMelee = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Jump
             regions = atlas.findRegions("anim_jump");
-            animJump = new Animation(1.0f / 12.0f, regions);
+            animJump = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Shoot
             regions = atlas.findRegions("anim_shoot");
-            animShoot = new Animation(1.0f / 12.0f, regions);
+            animShoot = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Dead
             regions = atlas.findRegions("anim_dead");
-            animDead = new Animation(1.0f / 12.0f, regions);
+            animDead = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Slide
             regions = atlas.findRegions("anim_slide");
-            animSlide = new Animation(1.0f / 30.0f, regions);
+            animSlide = new FacingAnimation(1.0f / 30.0f, regions);
         }
 
     }
 
     public class AssetDino {
 
-        public final Animation animIdle;
-        public final Animation animRun;
-        public final Animation animJump;
-        public final Animation animDead;
-        public final Animation animWalk;
+        public final FacingAnimation animIdle;
+        public final FacingAnimation animRun;
+        public final FacingAnimation animJump;
+        public final FacingAnimation animDead;
+        public final FacingAnimation animWalk;
 
         public AssetDino(TextureAtlas atlas) {
 
             Array<TextureAtlas.AtlasRegion> regions = null;
             // Animation: Idle
             regions = atlas.findRegions("anim_idle");
-            animIdle = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
+            animIdle = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Run
             regions = atlas.findRegions("anim_run");
-            animRun = new Animation(1.0f / 6.0f, regions, Animation.PlayMode.LOOP);
+            animRun = new FacingAnimation(1.0f / 6.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Walk
             regions = atlas.findRegions("anim_walk");
-            animWalk = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
+            animWalk = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Jump
             regions = atlas.findRegions("anim_jump");
-            animJump = new Animation(1.0f / 12.0f, regions);
+            animJump = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Dead
             regions = atlas.findRegions("anim_dead");
-            animDead = new Animation(1.0f / 12.0f, regions);
+            animDead = new FacingAnimation(1.0f / 12.0f, regions);
         }
 
     }
 
     public class AssetKnight {
 
-        public final Animation animIdle;
-        public final Animation animRun;
-        public final Animation animJump;
-        public final Animation animDead;
-        public final Animation animAttack;
-        public final Animation animJumpAttack;
-        public final Animation animWalk;
+        public final FacingAnimation animIdle;
+        public final FacingAnimation animRun;
+        public final FacingAnimation animJump;
+        public final FacingAnimation animDead;
+        public final FacingAnimation animAttack;
+        public final FacingAnimation animJumpAttack;
+        public final FacingAnimation animWalk;
 
         public AssetKnight(TextureAtlas atlas) {
             Array<TextureAtlas.AtlasRegion> regions = null;
             // Animation: Idle
             regions = atlas.findRegions("anim_idle");
-            animIdle = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
+            animIdle = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Run
             regions = atlas.findRegions("anim_run");
-            animRun = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
+            animRun = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Attack
             regions = atlas.findRegions("anim_attack");
-            animAttack = new Animation(1.0f / 12.0f, regions);
+            animAttack = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Jump
             regions = atlas.findRegions("anim_jump");
-            animJump = new Animation(1.0f / 12.0f, regions);
+            animJump = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Jump Attack
             regions = atlas.findRegions("anim_jump_attack");
-            animJumpAttack = new Animation(1.0f / 12.0f, regions);
+            animJumpAttack = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Dead
             regions = atlas.findRegions("anim_dead");
-            animDead = new Animation(1.0f / 12.0f, regions);
+            animDead = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Walk
             regions = atlas.findRegions("anim_walk");
-            animWalk = new Animation(1.0f / 30.0f, regions, Animation.PlayMode.LOOP);
+            animWalk = new FacingAnimation(1.0f / 30.0f, regions, Animation.PlayMode.LOOP);
         }
 
     }
 
     public class AssetSanta {
 
-        public final Animation animIdle;
-        public final Animation animRun;
-        public final Animation animJump;
-        public final Animation animDead;
-        public final Animation animSlide;
-        public final Animation animWalk;
+        public final FacingAnimation animIdle;
+        public final FacingAnimation animRun;
+        public final FacingAnimation animJump;
+        public final FacingAnimation animDead;
+        public final FacingAnimation animSlide;
+        public final FacingAnimation animWalk;
 
         public AssetSanta(TextureAtlas atlas) {
             Array<TextureAtlas.AtlasRegion> regions = null;
             // Animation: Idle
             regions = atlas.findRegions("anim_idle");
-            animIdle = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
+            animIdle = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Run
             regions = atlas.findRegions("anim_run");
-            animRun = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
+            animRun = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Walk
             regions = atlas.findRegions("anim_walk");
-            animWalk = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
+            animWalk = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Jump
             regions = atlas.findRegions("anim_jump");
-            animJump = new Animation(1.0f / 12.0f, regions);
+            animJump = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Dead
             regions = atlas.findRegions("anim_dead");
-            animDead = new Animation(1.0f / 12.0f, regions);
+            animDead = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Slide
             regions = atlas.findRegions("anim_slide");
-            animSlide = new Animation(1.0f / 30.0f, regions);
+            animSlide = new FacingAnimation(1.0f / 30.0f, regions);
         }
 
     }
 
     public class AssetGhost {
 
-        public final Animation animIdle;
-        public final Animation animRun;
-        public final Animation animJump;
-        public final Animation animDead;
+        public final FacingAnimation animIdle;
+        public final FacingAnimation animRun;
+        public final FacingAnimation animJump;
+        public final FacingAnimation animDead;
 
         public AssetGhost(TextureAtlas atlas) {
             Array<TextureAtlas.AtlasRegion> regions = null;
             // Animation: Idle
             regions = atlas.findRegions("anim_idle");
-            animIdle = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
+            animIdle = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Run
             regions = atlas.findRegions("anim_run");
-            animRun = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
+            animRun = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Jump
             regions = atlas.findRegions("anim_jump");
-            animJump = new Animation(1.0f / 12.0f, regions);
+            animJump = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Dead
             regions = atlas.findRegions("anim_dead");
-            animDead = new Animation(1.0f / 12.0f, regions);
+            animDead = new FacingAnimation(1.0f / 12.0f, regions);
         }
 
     }
 
     public class AssetBone {
 
-        public final Animation animWalk;
-        public final Animation animAttack;
-        public final Animation animDead;
+        public final FacingAnimation animWalk;
+        public final FacingAnimation animAttack;
+        public final FacingAnimation animDead;
 
         public AssetBone(TextureAtlas atlas) {
             Array<TextureAtlas.AtlasRegion> regions = null;
             // Animation: Walk
             regions = atlas.findRegions("anim_walk");
-            animWalk = new Animation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
+            animWalk = new FacingAnimation(1.0f / 12.0f, regions, Animation.PlayMode.LOOP);
             // Animation: Jump
             regions = atlas.findRegions("anim_attack");
-            animAttack = new Animation(1.0f / 12.0f, regions);
+            animAttack = new FacingAnimation(1.0f / 12.0f, regions);
             // Animation: Dead
             regions = atlas.findRegions("anim_dead");
-            animDead = new Animation(1.0f / 12.0f, regions);
+            animDead = new FacingAnimation(1.0f / 12.0f, regions);
         }
 
     }
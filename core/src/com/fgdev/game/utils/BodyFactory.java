@@ -27,6 +27,7 @@ public class BodyFactory {
     private final float DEGTORAD = 0.0174533f;
 
     private World world;
+    private final Vector2 tmpCenter = new Vector2();
 
     public static BodyFactory instance;
 
@@ -189,12 +190,14 @@ public class BodyFactory {
         return boxBody;
     }
 
-    public void makeShapeSensor(Body body, float hx, float hy, Vector2 center, float angel, int material, Object object) {
+    public Fixture makeShapeSensor(Body body, float hx, float hy, Vector2 center, float angel, int material, Object object) {
         PolygonShape shape = new PolygonShape();
         shape.setAsBox(hx, hy, center, angel);
         FixtureDef fixtureDef = makeFixture(material, shape);
-        body.createFixture(fixtureDef).setUserData(object);
+        Fixture fixture = body.createFixture(fixtureDef);
+        fixture.setUserData(object);
         shape.dispose();
+        return fixture;
     }
 
     public void makeEdgeSensor(Body body, Vector2 vector1, Vector2 vector2, int material, Object object) {
@@ -205,6 +208,26 @@ public class BodyFactory {
         edgeShape.dispose();
     }
 
+    public Body makeStaticBody() {
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.StaticBody;
+        return world.createBody(bodyDef);
+    }
+
+    public void makeBoxFixture(Body body, float posx, float posy, float width, float height, int material, Object object) {
+        PolygonShape poly = new PolygonShape();
+        poly.setAsBox(width, height, tmpCenter.set(posx, posy), 0);
+        body.createFixture(makeFixture(material, poly)).setUserData(object);
+        poly.dispose();
+    }
+
+    public void makeEdgeFixture(Body body, float x1, float y1, float x2, float y2, int material, Object object) {
+        EdgeShape edgeShape = new EdgeShape();
+        edgeShape.set(x1, y1, x2, y2);
+        body.createFixture(makeFixture(material, edgeShape)).setUserData(object);
+        edgeShape.dispose();
+    }
+
 
     public void makeConeSensor(Body body, float size){
         FixtureDef fixtureDef = new FixtureDef();
@@ -0,0 +1,52 @@
+package com.fgdev.game.utils;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * An animation together with a horizontally flipped copy of its frames, made
+ * once when the assets load. Entities pick the copy for the way they face
+ * instead of flipping the shared frames, which every other entity using the
+ * same animation would see too.
+ */
+public class FacingAnimation extends Animation<TextureRegion> {
+
+    private final Animation<TextureRegion> flipped;
+
+    public FacingAnimation(float frameDuration, Array<? extends TextureRegion> keyFrames) {
+        this(frameDuration, keyFrames, PlayMode.NORMAL);
+    }
+
+    public FacingAnimation(float frameDuration, Array<? extends TextureRegion> keyFrames, PlayMode playMode) {
+        super(frameDuration, keyFrames, playMode);
+        Array<TextureRegion> frames = new Array<TextureRegion>(keyFrames.size);
+        for (TextureRegion frame : keyFrames) {
+            TextureRegion copy = frame instanceof TextureAtlas.AtlasRegion
+                    ? new TextureAtlas.AtlasRegion((TextureAtlas.AtlasRegion) frame)
+                    : new TextureRegion(frame);
+            copy.flip(true, false);
+            frames.add(copy);
+        }
+        flipped = new Animation<TextureRegion>(frameDuration, frames, playMode);
+    }
+
+    /** This animation, or its flipped copy, they share durations and play mode. */
+    public Animation<TextureRegion> flipped(boolean flip) {
+        return flip ? flipped : this;
+    }
+
+    @Override
+    public void setPlayMode(PlayMode playMode) {
+        super.setPlayMode(playMode);
+        // the super constructor sets it before the copy exists
+        if (flipped != null) flipped.setPlayMode(playMode);
+    }
+
+    @Override
+    public void setFrameDuration(float frameDuration) {
+        super.setFrameDuration(frameDuration);
+        if (flipped != null) flipped.setFrameDuration(frameDuration);
+    }
+}
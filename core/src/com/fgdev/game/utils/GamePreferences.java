@@ -18,8 +18,11 @@ public class GamePreferences {
     public int playerSkin;
     public boolean isGirl;
     public boolean showFpsCounter;
+    public boolean showProfiler;
     public boolean useMonochromeShader;
     public boolean debug;
+    public boolean trace;
+    public boolean recordInput;
 
     private Preferences prefs;
     // singleton: prevent instantiation from other classes
@@ -37,9 +40,12 @@ public class GamePreferences {
         playerSkin = prefs.getInteger("playerSkin", 0);
         isGirl = prefs.getBoolean("isGirl", true);
         showFpsCounter = prefs.getBoolean("showFpsCounter", false);
+        showProfiler = prefs.getBoolean("showProfiler", false);
         useMonochromeShader = prefs.getBoolean("useMonochromeShader",
                 false);
         debug = prefs.getBoolean("debug", false);
+        trace = prefs.getBoolean("trace", false);
+        recordInput = prefs.getBoolean("recordInput", false);
     }
     public void save () {
         prefs.putBoolean("sound", sound);
@@ -49,8 +55,11 @@ public class GamePreferences {
         prefs.putInteger("playerSkin", playerSkin);
         prefs.putBoolean("isGirl", isGirl);
         prefs.putBoolean("showFpsCounter", showFpsCounter);
+        prefs.putBoolean("showProfiler", showProfiler);
         prefs.putBoolean("useMonochromeShader", useMonochromeShader);
         prefs.putBoolean("debug", debug);
+        prefs.putBoolean("trace", trace);
+        prefs.putBoolean("recordInput", recordInput);
         prefs.flush();
     }
 }
@@ -0,0 +1,138 @@
+package com.fgdev.game.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Rolling per-phase timings for the profiler HUD, with the GL counters of the
+ * last frame, the Box2D world size and the allocation rate. Phases may run
+ * several times a frame (world.step with sub-steps), their times add up.
+ * Everything is a no-op while the profiler is off.
+ */
+public class GameProfiler {
+
+    public static final String TAG = GameProfiler.class.getName();
+
+    public static final GameProfiler instance = new GameProfiler();
+
+    public static final int STEP = 0;
+    public static final int PLAYER = 1;
+    public static final int TILES = 2;
+    public static final int MAP = 3;
+    public static final int ENTITIES = 4;
+    public static final int GUI = 5;
+    public static final int TRANSITION = 6;
+    private static final String[] NAMES = {
+            "world.step", "player.update", "updateTile", "renderWorld", "renderTile", "renderGui", "transition"
+    };
+    // Frames the timings are averaged over
+    private static final int WINDOW = 60;
+
+    private boolean enabled;
+    private GLProfiler glProfiler;
+    private final long[] started = new long[NAMES.length];
+    private final long[] frame = new long[NAMES.length];
+    private final long[][] samples = new long[NAMES.length][WINDOW];
+    private final long[] sums = new long[NAMES.length];
+    private int sample;
+    // GL counters of the last frame
+    private int drawCalls;
+    private int textureBindings;
+    private int shaderSwitches;
+    // Allocation rate, heap growth between frames summed over a second
+    private long lastHeap;
+    private long allocated;
+    private long allocationStart;
+    private long allocationRate;
+    private final StringBuilder text = new StringBuilder(512);
+
+    // singleton: prevent instantiation from other classes
+    private GameProfiler() {
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+        if (enabled) {
+            if (glProfiler == null) glProfiler = new GLProfiler(Gdx.graphics);
+            glProfiler.enable();
+            glProfiler.reset();
+            lastHeap = Gdx.app.getJavaHeap();
+            allocated = 0;
+            allocationStart = TimeUtils.millis();
+        } else if (glProfiler != null) {
+            glProfiler.disable();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void begin(int phase) {
+        if (enabled) started[phase] = TimeUtils.nanoTime();
+    }
+
+    public void end(int phase) {
+        if (enabled) frame[phase] += TimeUtils.nanoTime() - started[phase];
+    }
+
+    /** Closes the frame, call once at the very end of it. */
+    public void endFrame() {
+        if (!enabled) return;
+        for (int i = 0; i < NAMES.length; i++) {
+            sums[i] += frame[i] - samples[i][sample];
+            samples[i][sample] = frame[i];
+            frame[i] = 0;
+        }
+        sample = (sample + 1) % WINDOW;
+        drawCalls = glProfiler.getDrawCalls();
+        textureBindings = glProfiler.getTextureBindings();
+        shaderSwitches = glProfiler.getShaderSwitches();
+        glProfiler.reset();
+        // A drop in the heap is a collection, not a negative allocation
+        long heap = Gdx.app.getJavaHeap();
+        if (heap > lastHeap) allocated += heap - lastHeap;
+        lastHeap = heap;
+        long elapsed = TimeUtils.timeSinceMillis(allocationStart);
+        if (elapsed >= 1000) {
+            allocationRate = allocated * 1000 / elapsed;
+            allocated = 0;
+            allocationStart = TimeUtils.millis();
+        }
+    }
+
+    /** The HUD text, one line per phase and the counters below. The world may be null. */
+    public CharSequence getText(World world) {
+        text.setLength(0);
+        for (int i = 0; i < NAMES.length; i++) {
+            long max = 0;
+            for (int j = 0; j < WINDOW; j++) max = Math.max(max, samples[i][j]);
+            text.append(NAMES[i]).append(": ");
+            appendMillis(sums[i] / WINDOW);
+            text.append(" ms, max ");
+            appendMillis(max);
+            text.append('\n');
+        }
+        text.append("draw calls: ").append(drawCalls)
+                .append(", binds: ").append(textureBindings)
+                .append(", shaders: ").append(shaderSwitches).append('\n');
+        if (world != null) {
+            text.append("bodies: ").append(world.getBodyCount())
+                    .append(", fixtures: ").append(world.getFixtureCount())
+                    .append(", contacts: ").append(world.getContactCount()).append('\n');
+        }
+        text.append("alloc: ").append(allocationRate / 1024).append(" KB/s");
+        return text;
+    }
+
+    // Two decimals without String.format, which the html backend lacks
+    private void appendMillis(long nanos) {
+        long hundredths = nanos / 10000;
+        text.append(hundredths / 100).append('.');
+        if (hundredths % 100 < 10) text.append('0');
+        text.append(hundredths % 100);
+    }
+}
@@ -0,0 +1,44 @@
+package com.fgdev.game.utils;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+
+/**
+ * A label followed by a number, for HUD counters drawn every frame. The text
+ * is written into its own StringBuilder and laid out again only when the
+ * number or the font color changes, a steady counter draws without making
+ * garbage.
+ */
+public class HudText {
+
+    private final String label;
+    private final StringBuilder text = new StringBuilder(16);
+    private final GlyphLayout layout = new GlyphLayout();
+    private BitmapFont font;
+    private int value;
+    private float color;
+
+    public HudText() {
+        this("");
+    }
+
+    public HudText(String label) {
+        this.label = label;
+    }
+
+    public void draw(Batch batch, BitmapFont font, int value, float x, float y) {
+        // The layout bakes in the color the font had
+        float color = font.getColor().toFloatBits();
+        if (font != this.font || value != this.value || color != this.color || text.length() == 0) {
+            this.font = font;
+            this.value = value;
+            this.color = color;
+            text.setLength(0);
+            // append(int) writes the digits in place, no Integer.toString
+            text.append(label).append(value);
+            layout.setText(font, text);
+        }
+        font.draw(batch, layout, x, y);
+    }
+}
@@ -0,0 +1,67 @@
+package com.fgdev.game.utils;
+
+import com.badlogic.gdx.utils.Array;
+import com.fgdev.game.Constants;
+import com.fgdev.game.helpers.LevelData;
+
+/**
+ * The files a level needs, read from the object layers of its level: an enemy
+ * atlas for every enemy layer that has objects, the item atlas when there are
+ * coins, feathers or crates, and the level background.
+ */
+public class LevelManifest {
+
+    private static final String[] LAYERS = {
+            "coins", "feathers", "crates",
+            "zombies", "robots", "adventure_girls", "dinos", "knights", "santas", "ghosts", "bones"
+    };
+    // Atlases for each layer above, adventure girls shoot robot bullets
+    private static final String[][] ATLASES = {
+            { Constants.TEXTURE_ATLAS_ITEM },
+            { Constants.TEXTURE_ATLAS_ITEM },
+            { Constants.TEXTURE_ATLAS_ITEM },
+            { Constants.TEXTURE_ATLAS_ZOMBIE },
+            { Constants.TEXTURE_ATLAS_ROBOT },
+            { Constants.TEXTURE_ATLAS_ADVENTURE_GIRL, Constants.TEXTURE_ATLAS_ROBOT },
+            { Constants.TEXTURE_ATLAS_DINO },
+            { Constants.TEXTURE_ATLAS_KNIGHT },
+            { Constants.TEXTURE_ATLAS_SANTA },
+            { Constants.TEXTURE_ATLAS_GHOST },
+            { Constants.TEXTURE_ATLAS_BONE }
+    };
+
+    private final String mapPath;
+    private final String background;
+    private final Array<String> atlases = new Array<String>();
+
+    public LevelManifest(String mapPath, String background) {
+        this.mapPath = mapPath;
+        this.background = background;
+        // Read once here, the game screen gets the same level back
+        LevelData level = LevelData.load(mapPath);
+        for (int layer = 0; layer < LAYERS.length; layer++) {
+            if (level.getObjectCount(LAYERS[layer]) == 0) continue;
+            for (String atlas : ATLASES[layer]) {
+                if (!atlases.contains(atlas, false)) atlases.add(atlas);
+            }
+        }
+    }
+
+    /** Adds the background and the atlases to the array. */
+    public void getFiles(Array<String> out) {
+        out.add(background);
+        out.addAll(atlases);
+    }
+
+    public String getMapPath() {
+        return mapPath;
+    }
+
+    public String getBackground() {
+        return background;
+    }
+
+    public Array<String> getAtlases() {
+        return atlases;
+    }
+}
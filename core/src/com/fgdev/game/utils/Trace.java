@@ -0,0 +1,131 @@
+package com.fgdev.game.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Nested begin/end spans kept in a ring buffer of longs, a time and a span
+ * code per event, so recording never allocates. {@link #dump()} writes the
+ * buffer as Chrome trace_event JSON for chrome://tracing or Perfetto.
+ * Main thread only, the level loader thread does not trace.
+ */
+public class Trace {
+
+    public static final String TAG = Trace.class.getName();
+
+    public static final Trace instance = new Trace();
+
+    public static final int FRAME = 0;
+    public static final int ASSETS = 1;
+    public static final int UPDATE = 2;
+    public static final int STEP = 3;
+    public static final int WORLD_STEP = 4;
+    public static final int CONTACTS = 5;
+    public static final int RENDER = 6;
+    public static final int TRANSITION = 7;
+    public static final int SET_SCREEN = 8;
+    public static final int WORLD_CREATOR = 9;
+    public static final int SPAWN = 10;
+    public static final int INIT_STAGE = 11;
+    private static final String[] NAMES = {
+            "frame", "assets", "update", "step", "world.step", "contacts", "render",
+            "transition", "setScreen", "B2WorldCreator", "spawn", "initStage"
+    };
+    // Events the buffer holds, a few seconds of play
+    private static final int CAPACITY = 1 << 16;
+    private static final long END = 1;
+
+    // time, code pairs, the code is the span shifted left once, low bit set on end.
+    // Made on the first enable, 1 MB
+    private long[] events;
+    private int next;
+    private int count;
+    private boolean enabled;
+
+    // singleton: prevent instantiation from other classes
+    private Trace() {
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (enabled && events == null) events = new long[CAPACITY * 2];
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void begin(int span) {
+        if (enabled) add((long) span << 1);
+    }
+
+    public void end(int span) {
+        if (enabled) add((long) span << 1 | END);
+    }
+
+    private void add(long code) {
+        events[next * 2] = TimeUtils.nanoTime();
+        events[next * 2 + 1] = code;
+        next = (next + 1) % CAPACITY;
+        if (count < CAPACITY) count++;
+    }
+
+    /**
+     * Writes what the buffer holds to a new local file and empties it, null
+     * if nothing was recorded. Needs local storage, so on html nothing is
+     * written and null is returned too.
+     */
+    public FileHandle dump() {
+        if (events == null) return null;
+        if (!Gdx.files.isLocalStorageAvailable()) {
+            Gdx.app.log(TAG, "no local storage, trace not written");
+            return null;
+        }
+        FileHandle file = Gdx.files.local("traces/trace-" + TimeUtils.millis() + ".json");
+        int first = (next - count + CAPACITY) % CAPACITY;
+        long start = count > 0 ? events[first * 2] : 0;
+        Writer writer = file.writer(false, "UTF-8");
+        try {
+            StringBuilder line = new StringBuilder(128);
+            writer.write("{\"traceEvents\":[\n");
+            // Spans that began before the oldest event kept have lost their begin
+            int depth = 0;
+            boolean comma = false;
+            for (int i = 0; i < count; i++) {
+                int event = (first + i) % CAPACITY;
+                long code = events[event * 2 + 1];
+                boolean end = (code & END) != 0;
+                if (end && depth == 0) continue;
+                depth += end ? -1 : 1;
+                long micros = (events[event * 2] - start) / 1000;
+                long nanos = (events[event * 2] - start) % 1000;
+                line.setLength(0);
+                if (comma) line.append(",\n");
+                line.append("{\"name\":\"").append(NAMES[(int) (code >> 1)])
+                        .append("\",\"ph\":\"").append(end ? 'E' : 'B')
+                        .append("\",\"pid\":1,\"tid\":1,\"ts\":").append(micros).append('.');
+                if (nanos < 100) line.append('0');
+                if (nanos < 10) line.append('0');
+                line.append(nanos).append('}');
+                writer.write(line.toString());
+                comma = true;
+            }
+            writer.write("\n]}\n");
+            writer.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't write trace " + file.path(), e);
+        } finally {
+            StreamUtils.closeQuietly(writer);
+        }
+        Gdx.app.log(TAG, count + " events written to " + file.path());
+        next = 0;
+        count = 0;
+        return file;
+    }
+}
@@ -1,6 +1,5 @@
 package com.fgdev.game.utils;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.fgdev.game.Constants;
 
 public class ValueManager {
@@ -18,7 +17,6 @@ public class ValueManager {
     public float timeNextLevel;
     public float posX;
     public float posY;
-    public Texture background;
     public boolean isNextLevel;
     public int levelCurrent;
     public int totalLevel;
@@ -37,7 +35,6 @@ public class ValueManager {
         timeLeftLiveLost = 0;
         posX = Constants.POS_X;
         posY = Constants.POS_Y;
-        background = Assets.instance.textures.background1;
         isNextLevel = false;
         levelCurrent = 1;
         totalLevel = Constants.TOTAL_LEVEL;
@@ -0,0 +1,29 @@
+package com.fgdev.game.desktop;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.fgdev.game.Constants;
+import com.fgdev.game.helpers.LevelData;
+import com.fgdev.game.helpers.TmxLevelParser;
+
+import java.io.File;
+
+/**
+ * Converts the tmx maps into the binary levels the game reads. Runs from the
+ * project root, the convertLevels task does it before the game is packaged.
+ */
+public class LevelConverterApp {
+
+    private static String assets = "android/assets/";
+    private static final String[] LEVELS = {
+            Constants.LEVEL_01, Constants.LEVEL_02, Constants.LEVEL_03, Constants.LEVEL_04, Constants.LEVEL_05
+    };
+
+    public static void main(final String[] args) {
+        for (String mapPath : LEVELS) {
+            FileHandle tmx = new FileHandle(new File(assets + mapPath));
+            FileHandle binary = new FileHandle(new File(assets + LevelData.binaryPath(mapPath)));
+            TmxLevelParser.parse(tmx, mapPath).write(binary, tmx);
+            System.out.println(mapPath + ": " + tmx.length() + " -> " + binary.length() + " bytes");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.fgdev.game.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.GL20;
+import com.fgdev.game.utils.Assets;
+import com.fgdev.game.utils.GamePreferences;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Prepares a headless backend so the game's assets and logic can be used
+ * without a GL context. Textures still need a GL20 to upload to, so a no-op
+ * implementation is installed when the backend does not provide one.
+ */
+public class HeadlessBootstrap {
+
+    private static final String TAG = HeadlessBootstrap.class.getName();
+
+    private static boolean initialized;
+
+    private HeadlessBootstrap() { }
+
+    public static void init() {
+        if (initialized) return;
+        if (Gdx.gl == null) {
+            GL20 gl = createNoOpGL();
+            Gdx.gl = gl;
+            Gdx.gl20 = gl;
+        }
+        Assets.instance.init(new AssetManager());
+        GamePreferences.instance.load();
+        initialized = true;
+        Gdx.app.log(TAG, "headless bootstrap done");
+    }
+
+    private static GL20 createNoOpGL() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(),
+                new Class[] { GL20.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        Class<?> type = method.getReturnType();
+                        if (type == int.class) return 0;
+                        if (type == boolean.class) return false;
+                        if (type == float.class) return 0f;
+                        if (type == String.class) return "";
+                        return null;
+                    }
+                });
+    }
+}
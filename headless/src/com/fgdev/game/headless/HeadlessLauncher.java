@@ -0,0 +1,34 @@
+package com.fgdev.game.headless;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+import java.util.Arrays;
+
+/**
+ * Runs the game logic without a window or GL context and reports how many
+ * fixed steps per second each level sustains, or replays recorded input logs.
+ *
+ * Usage: gradlew headless:run -PappArgs="['3600']" (steps per level, optional)
+ *        gradlew headless:run -PappArgs="['replay', 'replays/level1-....input']"
+ *        (paths are relative to android/assets, the hash interval defaults to 60 steps,
+ *        -Dreplay.interval=30 on the gradlew command line changes it)
+ */
+public class HeadlessLauncher {
+
+    public static void main (String[] arg) {
+        ApplicationListener listener;
+        if (arg.length > 0 && arg[0].equals("replay")) {
+            int interval = Integer.getInteger("replay.interval", ReplayRunner.DEFAULT_INTERVAL);
+            listener = new ReplayRunner(Arrays.copyOfRange(arg, 1, arg.length), interval);
+        } else {
+            int steps = arg.length > 0 ? Integer.parseInt(arg[0]) : SimulationRunner.DEFAULT_STEPS;
+            listener = new SimulationRunner(steps);
+        }
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // we drive the steps ourselves, don't let the backend sleep between frames
+        config.renderInterval = 0;
+        new HeadlessApplication(listener, config);
+    }
+}
@@ -0,0 +1,29 @@
+package com.fgdev.game.headless;
+
+import com.fgdev.game.logics.InputLog;
+import com.fgdev.game.logics.InputSource;
+import com.fgdev.game.logics.PlayerInput;
+
+/**
+ * Plays back a recorded level, one logged step per poll. The runner updates
+ * the logic by exactly one fixed step at a time, so polls and steps line up.
+ */
+public class ReplayInput implements InputSource {
+
+    private final InputLog log;
+    private int step;
+
+    public ReplayInput(InputLog log) {
+        this.log = log;
+    }
+
+    public boolean isDone() {
+        return step >= log.getStepCount();
+    }
+
+    @Override
+    public void poll(PlayerInput input) {
+        if (isDone()) return;
+        log.get(step++, input);
+    }
+}
@@ -0,0 +1,142 @@
+package com.fgdev.game.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.fgdev.game.entitiles.Player;
+import com.fgdev.game.entitiles.enemies.Enemy;
+import com.fgdev.game.helpers.EntityRegistry;
+import com.fgdev.game.logics.GameScreenLogic;
+import com.fgdev.game.logics.InputLog;
+import com.fgdev.game.utils.ValueManager;
+
+import static com.fgdev.game.Constants.STEP_TIME;
+
+/**
+ * Replays recorded input logs and hashes the player, enemy and score state
+ * every few steps. The first run of a log writes the hashes next to it, later
+ * runs compare against them and report the first step that differs, so a
+ * change that should not touch the game can be checked against a real level.
+ */
+public class ReplayRunner extends ApplicationAdapter {
+
+    private static final String TAG = ReplayRunner.class.getName();
+
+    public static final int DEFAULT_INTERVAL = 60;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final String[] paths;
+    private final int interval;
+    private final StringBuilder hashes = new StringBuilder(4096);
+
+    public ReplayRunner(String[] paths, int interval) {
+        this.paths = paths;
+        this.interval = interval;
+    }
+
+    @Override
+    public void create() {
+        HeadlessBootstrap.init();
+        for (String path : paths) {
+            replay(Gdx.files.local(path));
+        }
+        Gdx.app.exit();
+    }
+
+    private void replay(FileHandle file) {
+        InputLog log = InputLog.read(file);
+        SimulationRunner.prepareLevel(log.getLevel());
+        ValueManager.instance.score = log.getScore();
+        ValueManager.instance.scoreVisual = log.getScore();
+        ValueManager.instance.lives = log.getLives();
+        ValueManager.instance.livesVisual = log.getLives();
+
+        ReplayInput input = new ReplayInput(log);
+        GameScreenLogic logic = new GameScreenLogic(null, input, true, true);
+        logic.setSeed(log.getSeed());
+        logic.init();
+
+        hashes.setLength(0);
+        int step = 0;
+        long start = TimeUtils.nanoTime();
+        while (!input.isDone() && !logic.isFinished()) {
+            logic.update(STEP_TIME);
+            step++;
+            if (step % interval == 0) appendHash(step, logic);
+        }
+        long time = TimeUtils.nanoTime() - start;
+        if (step % interval != 0) appendHash(step, logic);
+        logic.dispose();
+        Gdx.app.log(TAG, String.format("%s: level %d, %d of %d steps in %.1f ms, %.0f steps/s",
+                file.name(), log.getLevel(), step, log.getStepCount(), time / 1000000.0,
+                step / (time / 1000000000.0)));
+        check(file.sibling(file.name() + ".hashes"));
+    }
+
+    private void appendHash(int step, GameScreenLogic logic) {
+        hashes.append(step).append(' ').append(Long.toHexString(hashState(logic))).append('\n');
+    }
+
+    private void check(FileHandle reference) {
+        String current = hashes.toString();
+        if (!reference.exists()) {
+            reference.writeString(current, false);
+            Gdx.app.log(TAG, "hashes written to " + reference.path());
+            return;
+        }
+        String[] expected = reference.readString().split("\n");
+        String[] actual = current.split("\n");
+        for (int i = 0; i < Math.min(expected.length, actual.length); i++) {
+            if (!expected[i].equals(actual[i])) {
+                Gdx.app.error(TAG, "diverged by step " + actual[i].substring(0, actual[i].indexOf(' '))
+                        + ": expected " + expected[i] + ", got " + actual[i]);
+                return;
+            }
+        }
+        if (expected.length != actual.length) {
+            Gdx.app.error(TAG, "ran " + actual.length + " hash intervals, expected " + expected.length);
+            return;
+        }
+        Gdx.app.log(TAG, "matches " + reference.path());
+    }
+
+    /** Exact bits of the player, the enemies and the score. Enemies are summed, their order may change. */
+    private static long hashState(GameScreenLogic logic) {
+        Player player = logic.getPlayer();
+        long h = FNV_OFFSET;
+        h = hashBody(h, player.getBody());
+        h = hash(h, player.isDead() ? 1 : 0);
+        h = hash(h, Float.floatToIntBits(player.getTimeLeftFeatherPowerup()));
+        h = hash(h, ValueManager.instance.score);
+        h = hash(h, ValueManager.instance.lives);
+        EntityRegistry<Enemy> enemies = logic.getCreator().getEnemies();
+        long sum = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            sum += enemy.isDestroyed() ? FNV_PRIME : hashBody(FNV_OFFSET, enemy.getBody());
+        }
+        return hash(h, (int) (sum ^ sum >>> 32));
+    }
+
+    private static long hashBody(long h, Body body) {
+        Vector2 position = body.getPosition();
+        Vector2 velocity = body.getLinearVelocity();
+        h = hash(h, Float.floatToIntBits(position.x));
+        h = hash(h, Float.floatToIntBits(position.y));
+        h = hash(h, Float.floatToIntBits(velocity.x));
+        return hash(h, Float.floatToIntBits(velocity.y));
+    }
+
+    private static long hash(long h, int value) {
+        for (int i = 0; i < 4; i++) {
+            h ^= (value >>> (i * 8)) & 0xff;
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+}
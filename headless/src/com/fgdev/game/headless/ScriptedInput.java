@@ -0,0 +1,27 @@
+package com.fgdev.game.headless;
+
+import com.fgdev.game.logics.InputSource;
+import com.fgdev.game.logics.PlayerInput;
+
+/**
+ * A repeatable input pattern that runs right through the level and keeps
+ * jumping, attacking and throwing so every kind of contact gets exercised.
+ */
+public class ScriptedInput implements InputSource {
+
+    private int step;
+
+    public void reset() {
+        step = 0;
+    }
+
+    @Override
+    public void poll(PlayerInput input) {
+        input.right = true;
+        input.jump = step % 90 < 12;
+        input.attack = step % 45 == 20;
+        input.attackThrow = step % 60 == 35;
+        input.jumpThrow = step % 240 == 150;
+        step++;
+    }
+}
@@ -0,0 +1,124 @@
+package com.fgdev.game.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.fgdev.game.Constants;
+import com.fgdev.game.helpers.B2WorldCreator;
+import com.fgdev.game.logics.GameScreenLogic;
+import com.fgdev.game.utils.Assets;
+import com.fgdev.game.utils.ValueManager;
+
+import java.util.Arrays;
+
+import static com.fgdev.game.Constants.STEP_TIME;
+
+/**
+ * Drives GameScreenLogic with a fixed step for every level and logs
+ * steps per second, mean / p99 step time and the Box2D body counts.
+ */
+public class SimulationRunner extends ApplicationAdapter {
+
+    private static final String TAG = SimulationRunner.class.getName();
+
+    public static final int DEFAULT_STEPS = 3600;
+
+    private static final String[] LEVELS = {
+            Constants.LEVEL_01,
+            Constants.LEVEL_02,
+            Constants.LEVEL_03,
+            Constants.LEVEL_04,
+            Constants.LEVEL_05
+    };
+
+    private final int steps;
+    private final long[] stepTimes;
+    private final ScriptedInput input;
+    private final Array<Body> bodyArray = new Array<Body>();
+
+    public SimulationRunner(int steps) {
+        this.steps = steps;
+        stepTimes = new long[steps];
+        input = new ScriptedInput();
+    }
+
+    @Override
+    public void create() {
+        HeadlessBootstrap.init();
+        for (int i = 0; i < LEVELS.length; i++) {
+            runLevel(i + 1);
+        }
+        Gdx.app.exit();
+    }
+
+    /** Points ValueManager at a fresh run of the given level (1 based). */
+    public static void prepareLevel(int level) {
+        ValueManager.instance.init();
+        ValueManager.instance.levelCurrent = level;
+        ValueManager.instance.mapPath = LEVELS[level - 1];
+        Assets.instance.loadLevel(level, LEVELS[level - 1]);
+        Assets.instance.finishLoading();
+    }
+
+    private void runLevel(int level) {
+        prepareLevel(level);
+        input.reset();
+
+        long loadStart = TimeUtils.nanoTime();
+        GameScreenLogic logic = new GameScreenLogic(null, input, true);
+        long loadTime = TimeUtils.nanoTime() - loadStart;
+
+        int maxBodies = 0;
+        int maxActive = 0;
+        int maxProxies = 0;
+        int count = 0;
+        long total = 0;
+        while (count < steps && !logic.isFinished()) {
+            // never let the run end on a game over
+            ValueManager.instance.lives = Constants.LIVES_START;
+            long start = TimeUtils.nanoTime();
+            logic.update(STEP_TIME);
+            long time = TimeUtils.nanoTime() - start;
+            stepTimes[count++] = time;
+            total += time;
+            maxBodies = Math.max(maxBodies, logic.getWorld().getBodyCount());
+            maxActive = Math.max(maxActive, countActive(logic.getWorld()));
+            maxProxies = Math.max(maxProxies, logic.getWorld().getProxyCount());
+        }
+        int bodies = logic.getWorld().getBodyCount();
+        B2WorldCreator creator = logic.getCreator();
+        Gdx.app.log(TAG, String.format(
+                "level %d: static geometry %d rects -> %d proxies, world proxies max %d",
+                level, creator.getStaticRectCount(), creator.getStaticProxyCount(), maxProxies));
+        Gdx.app.log(TAG, String.format("level %d: %d textures resident, %.1f MB",
+                level, Assets.instance.getTextureCount(), Assets.instance.getTextureMemory() / (1024f * 1024f)));
+        logic.dispose();
+        report(level, count, total, loadTime, bodies, maxBodies, maxActive);
+    }
+
+    private int countActive(World world) {
+        world.getBodies(bodyArray);
+        int active = 0;
+        for (int i = 0; i < bodyArray.size; i++) {
+            if (bodyArray.get(i).isActive()) active++;
+        }
+        return active;
+    }
+
+    private void report(int level, int count, long total, long loadTime, int bodies, int maxBodies,
+                        int maxActive) {
+        if (count == 0) return;
+        long[] sorted = Arrays.copyOf(stepTimes, count);
+        Arrays.sort(sorted);
+        long p99 = sorted[Math.min(count - 1, (int) (count * 0.99f))];
+        double mean = total / (double) count;
+        double stepsPerSecond = count / (total / 1000000000.0);
+        Gdx.app.log(TAG, String.format(
+                "level %d: %d steps, %.0f steps/s, mean %.3f ms, p99 %.3f ms, load %.1f ms, bodies %d (max %d, max active %d)",
+                level, count, stepsPerSecond, mean / 1000000.0, p99 / 1000000.0,
+                loadTime / 1000000.0, bodies, maxBodies, maxActive));
+    }
+}